@@ -0,0 +1,153 @@
+package com.example.tinyhunt.bench;
+
+import com.example.tinyhunt.model.AreaBounds;
+import com.example.tinyhunt.model.ConfiguredArea;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.util.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-event cost of the arena boundary check performed for every participant {@code PlayerMoveEvent}.
+ *
+ * <p>The {@code legacy*} methods reproduce the original Vector-based checks so the before/after cost can be
+ * compared in a single run; add {@code -prof gc} to see the allocation rate of each variant.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArenaBoundaryBenchmark {
+
+    @Param({"inside", "edge", "outside"})
+    public String position;
+
+    private Location pos1;
+    private Location pos2;
+    private ConfiguredArea area;
+    private AreaBounds bounds;
+    private Location from;
+    private Location to;
+    private Location scratch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        World world = StandIns.world("arena");
+        pos1 = new Location(world, -40.5, 60.5, -40.5);
+        pos2 = new Location(world, 40.5, 90.5, 40.5);
+        area = new ConfiguredArea();
+        area.setPos1(pos1);
+        area.setPos2(pos2);
+        bounds = area.getBounds();
+        switch (position) {
+            case "inside" -> {
+                from = new Location(world, 3.2, 64.0, 7.1);
+                to = new Location(world, 3.4, 64.0, 7.3);
+            }
+            case "edge" -> {
+                from = new Location(world, 40.1, 64.0, 7.1);
+                to = new Location(world, 40.3, 64.0, 7.3);
+            }
+            default -> {
+                from = new Location(world, 40.4, 64.0, 7.1);
+                to = new Location(world, 40.9, 64.0, 7.3);
+            }
+        }
+        scratch = to.clone();
+    }
+
+    @Benchmark
+    public Location legacyCheck() {
+        if (!legacyIsComplete() || legacyContains(to)) {
+            return to;
+        }
+        return legacyClamp(to);
+    }
+
+    @Benchmark
+    public Location compiledCheck() {
+        boolean sameBlock = from.getBlockX() == to.getBlockX() && from.getBlockY() == to.getBlockY()
+                && from.getBlockZ() == to.getBlockZ();
+        if (sameBlock && bounds.containsBlock(to.getBlockX(), to.getBlockY(), to.getBlockZ())) {
+            return to;
+        }
+        if (bounds.contains(to)) {
+            return to;
+        }
+        scratch.setX(to.getX());
+        scratch.setY(to.getY());
+        scratch.setZ(to.getZ());
+        bounds.clampInPlace(scratch);
+        return scratch;
+    }
+
+    @Benchmark
+    public boolean configuredAreaContains() {
+        return area.contains(to);
+    }
+
+    @Benchmark
+    public Location configuredAreaClamp() {
+        return area.clamp(to);
+    }
+
+    private boolean legacyIsComplete() {
+        return pos1 != null && pos2 != null && pos1.getWorld() != null && pos1.getWorld().equals(pos2.getWorld());
+    }
+
+    private Vector legacyMinimum() {
+        if (!legacyIsComplete()) {
+            throw new IllegalStateException("Area is not fully configured");
+        }
+        return new Vector(Math.min(pos1.getX(), pos2.getX()), Math.min(pos1.getY(), pos2.getY()),
+                Math.min(pos1.getZ(), pos2.getZ()));
+    }
+
+    private Vector legacyMaximum() {
+        if (!legacyIsComplete()) {
+            throw new IllegalStateException("Area is not fully configured");
+        }
+        return new Vector(Math.max(pos1.getX(), pos2.getX()), Math.max(pos1.getY(), pos2.getY()),
+                Math.max(pos1.getZ(), pos2.getZ()));
+    }
+
+    private boolean legacyContains(Location location) {
+        if (!legacyIsComplete() || location == null) {
+            return false;
+        }
+        if (location.getWorld() == null || !location.getWorld().equals(pos1.getWorld())) {
+            return false;
+        }
+        Vector min = legacyMinimum();
+        Vector max = legacyMaximum();
+        double x = location.getX();
+        double y = location.getY();
+        double z = location.getZ();
+        return x >= min.getX() && x <= max.getX()
+                && y >= min.getY() && y <= max.getY()
+                && z >= min.getZ() && z <= max.getZ();
+    }
+
+    private Location legacyClamp(Location location) {
+        Vector min = legacyMinimum();
+        Vector max = legacyMaximum();
+        double x = Math.max(min.getX(), Math.min(max.getX(), location.getX()));
+        double y = Math.max(min.getY(), Math.min(max.getY(), location.getY()));
+        double z = Math.max(min.getZ(), Math.min(max.getZ(), location.getZ()));
+        return new Location(pos1.getWorld(), x, y, z, location.getYaw(), location.getPitch());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.tinyhunt.bench;
+
+import com.kjaza.tinymmo.skill.CooldownManager;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cooldown lookups performed on every skill interaction.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CooldownBenchmark {
+
+    private static final String[] SKILLS = {"dash", "smoke", "grapple", "hide"};
+    private static final long NOW_TICK = 72_000L;
+
+    private CooldownManager cooldowns;
+    private Player cooling;
+    private Player idle;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cooldowns = new CooldownManager(() -> NOW_TICK);
+        for (int i = 0; i < 100; i++) {
+            Player player = StandIns.player(UUID.randomUUID(), "player" + i);
+            for (String skill : SKILLS) {
+                cooldowns.start(player, skill, 60);
+            }
+            if (i == 0) {
+                cooling = player;
+            }
+        }
+        idle = StandIns.player(UUID.randomUUID(), "idle");
+    }
+
+    @Benchmark
+    public boolean onCooldownHit() {
+        return cooldowns.isOnCooldown(cooling, "smoke");
+    }
+
+    @Benchmark
+    public boolean onCooldownMiss() {
+        return cooldowns.isOnCooldown(idle, "smoke");
+    }
+
+    @Benchmark
+    public int remaining() {
+        return cooldowns.remaining(cooling, "grapple");
+    }
+}
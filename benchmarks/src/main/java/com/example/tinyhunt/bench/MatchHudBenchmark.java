@@ -0,0 +1,87 @@
+package com.example.tinyhunt.bench;
+
+import com.example.tinyhunt.game.HudStats;
+import com.example.tinyhunt.game.MatchHud;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One HUD refresh of a running match: boss bar plus sidebar for every participant.
+ *
+ * <p>The {@code sideEffects} counter reports how many void calls (scoreboard and boss bar updates, roughly one
+ * packet each on a real server) a single refresh issues.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchHudBenchmark {
+
+    @Param({"4", "12"})
+    public int players;
+
+    private MatchHud hud;
+    private List<UUID> participants;
+    private MatchHud.HudSnapshot[] snapshots;
+    private int tick;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StandIns.installServer();
+        participants = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            UUID uuid = UUID.randomUUID();
+            StandIns.player(uuid, "player" + i);
+            participants.add(uuid);
+        }
+        hud = new MatchHud(new HudStats());
+        hud.start(participants);
+        snapshots = new MatchHud.HudSnapshot[60];
+        for (int second = 0; second < snapshots.length; second++) {
+            long remaining = 600 - second;
+            String time = String.format("%02d:%02d", remaining / 60, remaining % 60);
+            snapshots[second] = new MatchHud.HudSnapshot("Tempo rimanente: " + time, "TinyHunt",
+                    remaining / 600.0D, time, players - 1, 1, -1L, "");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        hud.stop();
+        StandIns.clearPlayers();
+    }
+
+    @Benchmark
+    public void update(SideEffects counter) {
+        long before = StandIns.sideEffects();
+        hud.update(participants, snapshots[tick++ % snapshots.length]);
+        counter.sideEffects += StandIns.sideEffects() - before;
+    }
+
+    /**
+     * Per-invocation count of stand-in side effects.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SideEffects {
+        public long sideEffects;
+    }
+}
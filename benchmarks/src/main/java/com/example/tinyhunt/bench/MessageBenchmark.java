@@ -0,0 +1,86 @@
+package com.example.tinyhunt.bench;
+
+import com.example.tinyhunt.message.Messages;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.ChatColor;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of resolving a configured message with colour codes and placeholder substitution, as done by
+ * {@code TinyHuntPlugin.getMessage} for every broadcast and HUD refresh. {@link #legacyTwoPlaceholders()} keeps
+ * the former lookup-translate-replace path as a baseline for the compiled templates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageBenchmark {
+
+    private static final String CONFIG = String.join("\n",
+            "messages:",
+            "  game-start: \"&aLa partita è iniziata!\"",
+            "  countdown-tick: \"&eLa partita inizia tra &6%seconds% &esecondi.\"",
+            "  runner-respawn-broadcast: \"&e%player% &6tornerà come Hunter tra &e%seconds%s&6.\"",
+            "  menu-status-queue: \"&7In coda: &a%queue%&7/&a%max%\"");
+
+    private YamlConfiguration config;
+    private Messages messages;
+    private Map<String, Object> onePlaceholder;
+    private Map<String, Object> twoPlaceholders;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InvalidConfigurationException {
+        YamlConfiguration config = new YamlConfiguration();
+        config.loadFromString(CONFIG);
+        this.config = config;
+        messages = new Messages();
+        messages.load(config);
+        onePlaceholder = Map.of("seconds", 10);
+        twoPlaceholders = Map.of("player", "Steve", "seconds", 5);
+    }
+
+    @Benchmark
+    public String plain() {
+        return messages.get("messages.game-start");
+    }
+
+    @Benchmark
+    public String onePlaceholder() {
+        return messages.get("messages.countdown-tick", onePlaceholder);
+    }
+
+    @Benchmark
+    public String twoPlaceholders() {
+        return messages.get("messages.runner-respawn-broadcast", twoPlaceholders);
+    }
+
+    @Benchmark
+    public String missingPath() {
+        return messages.get("messages.does-not-exist");
+    }
+
+    @Benchmark
+    public String legacyTwoPlaceholders() {
+        String message = ChatColor.translateAlternateColorCodes('&',
+                config.getString("messages.runner-respawn-broadcast", "messages.runner-respawn-broadcast"));
+        for (Map.Entry<String, Object> entry : twoPlaceholders.entrySet()) {
+            message = message.replace("%" + entry.getKey() + "%", String.valueOf(entry.getValue()));
+        }
+        return message;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.tinyhunt.bench;
+
+import com.kjaza.tinymmo.party.Party;
+import com.kjaza.tinymmo.party.PartyManager;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Stress test for the party registry: joins, leaves and async chat reads hammer the same parties concurrently.
+ *
+ * <p>Chat readers iterate member snapshots exactly like the chat fan-out does, and after every iteration the
+ * registry is checked for consistency, so a lost update or a torn membership fails the run.</p>
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PartyRegistryStressBenchmark {
+
+    private static final int OWNERS = 8;
+    private static final int MEMBERS = 256;
+
+    private PartyManager parties;
+    private UUID[] owners;
+    private UUID[] members;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        parties = new PartyManager();
+        owners = new UUID[OWNERS];
+        for (int i = 0; i < OWNERS; i++) {
+            owners[i] = UUID.randomUUID();
+            parties.createParty(owners[i]);
+        }
+        members = new UUID[MEMBERS];
+        for (int i = 0; i < MEMBERS; i++) {
+            members[i] = UUID.randomUUID();
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void verify() {
+        for (UUID member : members) {
+            Party party = parties.getPartyOf(member);
+            if (party != null && !party.members.contains(member)) {
+                throw new IllegalStateException("Player " + member + " is indexed to a party without them");
+            }
+        }
+        for (UUID owner : owners) {
+            Party party = parties.getPartyOf(owner);
+            if (party == null) {
+                continue;
+            }
+            for (UUID member : party.members) {
+                Party indexed = parties.getPartyOf(member);
+                if (indexed == null || !indexed.owner.equals(party.owner)) {
+                    throw new IllegalStateException("Member " + member + " of " + owner + " is not indexed to it");
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @Group("registry")
+    @GroupThreads(2)
+    public void join() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        parties.addMember(owners[random.nextInt(OWNERS)], members[random.nextInt(MEMBERS)]);
+    }
+
+    @Benchmark
+    @Group("registry")
+    @GroupThreads(2)
+    public void leave() {
+        parties.removeMember(members[ThreadLocalRandom.current().nextInt(MEMBERS)]);
+    }
+
+    @Benchmark
+    @Group("registry")
+    @GroupThreads(4)
+    public int chat() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        UUID speaker = random.nextBoolean() ? owners[random.nextInt(OWNERS)] : members[random.nextInt(MEMBERS)];
+        Party party = parties.getPartyOf(speaker);
+        if (party == null) {
+            return 0;
+        }
+        int recipients = 0;
+        for (UUID member : party.members) {
+            recipients += member.hashCode() & 1;
+        }
+        return recipients;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.tinyhunt.bench;
+
+import com.example.tinyhunt.game.MatchRoster;
+import com.example.tinyhunt.model.PlayerRole;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Role counting used by the HUD and the win checks of a running match.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoleCountingBenchmark {
+
+    @Param({"4", "12", "32"})
+    public int players;
+
+    private MatchRoster roster;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StandIns.installServer();
+        roster = new MatchRoster();
+        for (int i = 0; i < players; i++) {
+            UUID uuid = UUID.randomUUID();
+            roster.add(StandIns.player(uuid, "player" + i));
+            if (i % 3 == 0) {
+                roster.setRole(uuid, PlayerRole.HUNTER);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        StandIns.clearPlayers();
+    }
+
+    @Benchmark
+    public int runnerCount() {
+        return roster.getRunnerCount();
+    }
+
+    @Benchmark
+    public int hunterCount() {
+        return roster.getHunterCount();
+    }
+
+    @Benchmark
+    public Collection<Player> remainingRunners() {
+        return roster.getRemainingRunners();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.tinyhunt.bench;
+
+import com.kjaza.tinymmo.skill.HeldSkill;
+import com.kjaza.tinymmo.skill.HeldSkillCache;
+import com.kjaza.tinymmo.skill.ResourceType;
+import com.kjaza.tinymmo.skill.Skill;
+import com.kjaza.tinymmo.skill.SkillManager;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Skill item resolution and ownership check run on every {@code PlayerInteractEvent}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkillResolveBenchmark {
+
+    private SkillManager skills;
+    private HeldSkillCache heldSkills;
+    private Player owner;
+    private ItemStack skillItem;
+    private ItemStack plainItem;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        skills = new SkillManager(StandIns.plugin("TinyHunt"));
+        for (String id : new String[] {"dash", "smoke", "grapple", "hide", "ping", "compass", "reveal", "decoy"}) {
+            skills.register(new Skill(id, Material.BLAZE_ROD, 10, ResourceType.MANA, 20, null));
+        }
+        heldSkills = new HeldSkillCache(skills);
+        UUID ownerId = UUID.randomUUID();
+        owner = StandIns.player(ownerId, "owner");
+        skillItem = StandIns.item(Material.BLAZE_ROD,
+                Map.of(skills.getSkillKey(), "smoke", skills.getOwnerKey(), ownerId.toString()));
+        plainItem = StandIns.item(Material.STICK, Map.of());
+    }
+
+    @Benchmark
+    public Optional<Skill> resolveSkillItem() {
+        return skills.resolveSkill(skillItem);
+    }
+
+    @Benchmark
+    public Optional<Skill> resolvePlainItem() {
+        return skills.resolveSkill(plainItem);
+    }
+
+    @Benchmark
+    public boolean resolveAndCheckOwner() {
+        return skills.resolveSkill(skillItem).isPresent() && skills.isOwner(owner, skillItem);
+    }
+
+    @Benchmark
+    public boolean cachedResolveAndCheckOwner() {
+        HeldSkill held = heldSkills.resolve(owner, skillItem);
+        return held.skill() != null && held.isOwnedBy(owner.getUniqueId());
+    }
+}
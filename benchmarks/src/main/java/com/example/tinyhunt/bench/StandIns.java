@@ -0,0 +1,261 @@
+package com.example.tinyhunt.bench;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Lightweight proxies for server-only Bukkit types so benchmarks can run on a plain JVM.
+ *
+ * <p>Unless a stand-in overrides a method, calls fall back to "deep stub" behaviour: primitives return zero,
+ * strings are empty, collections are empty and interface-typed results are themselves stand-ins (the same
+ * instance every time for a given receiver and method). Every {@code void} call on a stand-in is counted in
+ * {@link #sideEffects()}, which approximates how many packets a real server would have sent.</p>
+ */
+public final class StandIns {
+
+    private static final AtomicLong SIDE_EFFECTS = new AtomicLong();
+    private static final Map<UUID, Player> PLAYERS = new ConcurrentHashMap<>();
+    private static volatile boolean serverInstalled;
+
+    private StandIns() {
+    }
+
+    public static long sideEffects() {
+        return SIDE_EFFECTS.get();
+    }
+
+    public static void resetSideEffects() {
+        SIDE_EFFECTS.set(0L);
+    }
+
+    /**
+     * Installs a stand-in {@link Server} behind {@link Bukkit}; safe to call more than once.
+     */
+    public static synchronized void installServer() {
+        if (serverInstalled) {
+            return;
+        }
+        Logger logger = Logger.getLogger("TinyHuntBench");
+        Server server = stub(Server.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getPlayer" -> args[0] instanceof UUID uuid ? PLAYERS.get(uuid) : null;
+            case "getOnlinePlayers" -> Collections.unmodifiableCollection(PLAYERS.values());
+            case "getLogger" -> logger;
+            case "getName" -> "StandInServer";
+            case "isPrimaryThread" -> true;
+            default -> DEFAULT;
+        });
+        try {
+            Field field = Bukkit.class.getDeclaredField("server");
+            field.setAccessible(true);
+            if (field.get(null) == null) {
+                field.set(null, server);
+            }
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Unable to install stand-in server", ex);
+        }
+        serverInstalled = true;
+    }
+
+    /**
+     * A world that only knows its name; identity is used for equality, as on a real server.
+     */
+    public static World world(String name) {
+        return stub(World.class, (proxy, method, args) -> "getName".equals(method.getName()) ? name : DEFAULT);
+    }
+
+    public static Plugin plugin(String name) {
+        return stub(Plugin.class, (proxy, method, args) -> "getName".equals(method.getName()) ? name : DEFAULT);
+    }
+
+    /**
+     * An online player that {@link Bukkit#getPlayer(UUID)} resolves once the stand-in server is installed.
+     */
+    public static Player player(UUID uuid, String name) {
+        Player player = stub(Player.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getUniqueId" -> uuid;
+            case "getName" -> name;
+            case "isOnline" -> true;
+            default -> DEFAULT;
+        });
+        PLAYERS.put(uuid, player);
+        return player;
+    }
+
+    public static void clearPlayers() {
+        PLAYERS.clear();
+    }
+
+    /**
+     * An item whose meta carries the given persistent string values. Like a real server, every
+     * {@link ItemStack#getItemMeta()} call hands out a fresh copy of the meta.
+     */
+    public static ItemStack item(Material material, Map<NamespacedKey, String> data) {
+        PersistentDataContainer container = stub(PersistentDataContainer.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "get":
+                    return data.get(args[0]);
+                case "has":
+                    return data.containsKey(args[0]);
+                default:
+                    return DEFAULT;
+            }
+        });
+        return new StandInItemStack(material, container);
+    }
+
+    private static ItemMeta meta(PersistentDataContainer container) {
+        return stub(ItemMeta.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getPersistentDataContainer" -> container;
+            case "clone" -> meta(container);
+            default -> DEFAULT;
+        });
+    }
+
+    /**
+     * Marker returned by overrides to fall through to the deep-stub defaults.
+     */
+    private static final Object DEFAULT = new Object();
+
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> type, InvocationHandler overrides) {
+        return (T) Proxy.newProxyInstance(StandIns.class.getClassLoader(), new Class<?>[] {type},
+                new DeepStub(overrides));
+    }
+
+    private static final class DeepStub implements InvocationHandler {
+
+        private final InvocationHandler overrides;
+        private final Map<Method, Object> children = new ConcurrentHashMap<>();
+
+        private DeepStub(InvocationHandler overrides) {
+            this.overrides = overrides;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    if (method.getParameterCount() == 1) {
+                        return proxy == args[0];
+                    }
+                    break;
+                case "hashCode":
+                    if (method.getParameterCount() == 0) {
+                        return System.identityHashCode(proxy);
+                    }
+                    break;
+                case "toString":
+                    if (method.getParameterCount() == 0) {
+                        return "StandIn[" + proxy.getClass().getInterfaces()[0].getSimpleName() + "]";
+                    }
+                    break;
+                default:
+                    break;
+            }
+            Object result = overrides.invoke(proxy, method, args);
+            if (result != DEFAULT) {
+                return result;
+            }
+            return defaultValue(method);
+        }
+
+        private Object defaultValue(Method method) {
+            Class<?> type = method.getReturnType();
+            if (type == void.class) {
+                SIDE_EFFECTS.incrementAndGet();
+                return null;
+            }
+            if (type == boolean.class) {
+                return false;
+            }
+            if (type == int.class || type == short.class || type == byte.class || type == char.class) {
+                return type == int.class ? 0 : type == short.class ? (short) 0 : type == byte.class ? (byte) 0 : '\0';
+            }
+            if (type == long.class) {
+                return 0L;
+            }
+            if (type == double.class) {
+                return 0.0D;
+            }
+            if (type == float.class) {
+                return 0.0F;
+            }
+            if (type == String.class) {
+                return "";
+            }
+            if (type == Optional.class) {
+                return Optional.empty();
+            }
+            if (type == Set.class) {
+                return Collections.emptySet();
+            }
+            if (type == List.class || type == Collection.class) {
+                return Collections.emptyList();
+            }
+            if (type == Map.class) {
+                return Collections.emptyMap();
+            }
+            if (type.isInterface()) {
+                return children.computeIfAbsent(method, key -> stub(type, (proxy, m, args) -> DEFAULT));
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Item stack stand-in that avoids the server's item factory.
+     */
+    private static final class StandInItemStack extends ItemStack {
+
+        private final Material material;
+        private final ItemMeta meta;
+
+        private StandInItemStack(Material material, PersistentDataContainer container) {
+            this.material = material;
+            this.meta = meta(container);
+        }
+
+        @Override
+        public Material getType() {
+            return material;
+        }
+
+        @Override
+        public boolean hasItemMeta() {
+            return true;
+        }
+
+        @Override
+        public ItemMeta getItemMeta() {
+            return meta.clone();
+        }
+
+        @Override
+        public boolean isSimilar(ItemStack stack) {
+            // Copies share the backing data, standing in for the server's component comparison.
+            return stack instanceof StandInItemStack other && other.material == material && other.meta == meta;
+        }
+    }
+}
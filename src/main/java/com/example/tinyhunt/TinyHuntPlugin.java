@@ -3,22 +3,31 @@ package com.example.tinyhunt;
 import com.example.tinyhunt.command.TinyHuntCommand;
 import com.example.tinyhunt.game.ArenaBoundaryListener;
 import com.example.tinyhunt.game.ArenaSetupListener;
+import com.example.tinyhunt.game.GameLoop;
 import com.example.tinyhunt.game.GameManager;
 import com.example.tinyhunt.game.JoinMenuListener;
+import com.example.tinyhunt.game.MatchProximityService;
 import com.example.tinyhunt.game.PlayerListener;
+import com.example.tinyhunt.message.Messages;
+import com.example.tinyhunt.storage.ReplayService;
+import com.example.tinyhunt.storage.StatsRepository;
+import com.example.tinyhunt.storage.WriteBehindWriter;
 import com.kjaza.tinymmo.party.PartyChatCommand;
 import com.kjaza.tinymmo.party.PartyChatListener;
+import com.kjaza.tinymmo.party.PartyChatPipeline;
 import com.kjaza.tinymmo.party.PartyManager;
 import com.kjaza.tinymmo.skill.CooldownManager;
+import com.kjaza.tinymmo.skill.HeldSkillCache;
+import com.kjaza.tinymmo.skill.ProximityService;
+import com.kjaza.tinymmo.skill.ResourceBars;
 import com.kjaza.tinymmo.skill.ResourceManager;
 import com.kjaza.tinymmo.skill.SkillListener;
 import com.kjaza.tinymmo.skill.SkillManager;
 import com.kjaza.tinymmo.skill.VisualCooldowns;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
-import org.bukkit.ChatColor;
 import org.bukkit.command.PluginCommand;
+import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.java.JavaPlugin;
 
 /**
@@ -26,23 +35,42 @@ import org.bukkit.plugin.java.JavaPlugin;
  */
 public final class TinyHuntPlugin extends JavaPlugin {
 
+    private static final long RESOURCE_REGEN_PERIOD_TICKS = 10L;
+
+    private final Messages messages = new Messages();
+    private GameLoop gameLoop;
+    private WriteBehindWriter persistence;
+    private ReplayService replays;
+    private StatsRepository stats;
     private GameManager gameManager;
     private PartyManager partyManager;
+    private PartyChatPipeline partyChatPipeline;
     private SkillManager skillManager;
+    private HeldSkillCache heldSkillCache;
     private CooldownManager cooldownManager;
     private ResourceManager resourceManager;
     private VisualCooldowns visualCooldowns;
-    private int visualCooldownTaskId = -1;
 
     @Override
     public void onEnable() {
         saveDefaultConfig();
-        gameManager = new GameManager(this);
+        gameLoop = new GameLoop(this);
+        gameLoop.start();
+        persistence = new WriteBehindWriter(this, gameLoop);
+        replays = new ReplayService(this, getConfig().getInt("replays.keep", 100));
+        stats = new StatsRepository(this, getConfig().getInt("stats.cache-size", 1000));
+        cooldownManager = new CooldownManager(gameLoop::getCurrentTick);
         partyManager = new PartyManager();
+        gameManager = new GameManager(this);
+        partyChatPipeline = new PartyChatPipeline(this);
+        partyChatPipeline.start();
         skillManager = new SkillManager(this);
-        cooldownManager = new CooldownManager();
-        resourceManager = new ResourceManager();
-        visualCooldowns = new VisualCooldowns(this);
+        skillManager.reload(getConfig());
+        resourceManager = new ResourceManager(new ResourceBars());
+        resourceManager.reload(getConfig());
+        visualCooldowns = new VisualCooldowns(this, cooldownManager);
+        getServer().getServicesManager().register(ProximityService.class, new MatchProximityService(gameManager),
+                this, ServicePriority.Normal);
         TinyHuntCommand tinyHuntCommand = new TinyHuntCommand(this, gameManager);
         PluginCommand command = Objects.requireNonNull(getCommand("tinyhunt"),
                 "tinyhunt command must be defined in plugin.yml");
@@ -52,50 +80,86 @@ public final class TinyHuntPlugin extends JavaPlugin {
         getServer().getPluginManager().registerEvents(new ArenaSetupListener(gameManager), this);
         getServer().getPluginManager().registerEvents(new ArenaBoundaryListener(gameManager), this);
         getServer().getPluginManager().registerEvents(new JoinMenuListener(gameManager), this);
+        heldSkillCache = new HeldSkillCache(skillManager);
+        getServer().getPluginManager().registerEvents(heldSkillCache, this);
         getServer().getPluginManager().registerEvents(
-                new SkillListener(skillManager, cooldownManager, resourceManager, visualCooldowns, this),
+                new SkillListener(heldSkillCache, cooldownManager, resourceManager, visualCooldowns, this),
                 this);
-        getServer().getPluginManager().registerEvents(new PartyChatListener(partyManager), this);
+        getServer().getPluginManager().registerEvents(new PartyChatListener(partyManager, partyChatPipeline), this);
         PluginCommand partyChatCommand = Objects.requireNonNull(getCommand("p"),
                 "p command must be defined in plugin.yml");
-        partyChatCommand.setExecutor(new PartyChatCommand(partyManager));
-        visualCooldownTaskId = getServer().getScheduler()
-                .runTaskTimer(this, () -> visualCooldowns.tickActionbar(), 10L, 10L)
-                .getTaskId();
+        partyChatCommand.setExecutor(new PartyChatCommand(partyManager, partyChatPipeline));
+        gameLoop.runRepeating(10L, 10L, visualCooldowns::tickActionbar);
+        gameLoop.runRepeating(RESOURCE_REGEN_PERIOD_TICKS, RESOURCE_REGEN_PERIOD_TICKS,
+                () -> resourceManager.tick(RESOURCE_REGEN_PERIOD_TICKS));
         getLogger().info("TinyHunt plugin enabled.");
     }
 
     @Override
     public void onDisable() {
-        if (visualCooldownTaskId != -1) {
-            getServer().getScheduler().cancelTask(visualCooldownTaskId);
-            visualCooldownTaskId = -1;
-        }
         if (gameManager != null) {
             gameManager.cancelAllTasks();
         }
+        if (partyChatPipeline != null) {
+            partyChatPipeline.stop();
+        }
+        if (replays != null) {
+            replays.close();
+        }
+        if (stats != null) {
+            stats.close();
+        }
+        if (persistence != null) {
+            persistence.close();
+        }
+        if (gameLoop != null) {
+            gameLoop.stop();
+        }
         getLogger().info("TinyHunt plugin disabled.");
     }
 
+    @Override
+    public void reloadConfig() {
+        super.reloadConfig();
+        messages.load(getConfig());
+        if (skillManager != null) {
+            skillManager.reload(getConfig());
+        }
+        if (resourceManager != null) {
+            resourceManager.reload(getConfig());
+        }
+    }
+
+    public GameLoop getGameLoop() {
+        return gameLoop;
+    }
+
+    public WriteBehindWriter getPersistence() {
+        return persistence;
+    }
+
+    public ReplayService getReplays() {
+        return replays;
+    }
+
+    public StatsRepository getStats() {
+        return stats;
+    }
+
     public GameManager getGameManager() {
         return gameManager;
     }
 
     public String getMessage(String path) {
-        String raw = getConfig().getString(path, path);
-        return ChatColor.translateAlternateColorCodes('&', raw);
+        return messages.get(path);
     }
 
     public String getMessage(String path, Map<String, ?> placeholders) {
-        String message = getMessage(path);
-        if (placeholders == null || placeholders.isEmpty()) {
-            return message;
-        }
-        for (Entry<String, ?> entry : placeholders.entrySet()) {
-            String token = "%" + entry.getKey() + "%";
-            message = message.replace(token, String.valueOf(entry.getValue()));
-        }
-        return message;
+        return messages.get(path, placeholders);
+    }
+
+    public Messages getMessages() {
+        return messages;
     }
 
     public VisualCooldowns getVisualCooldowns() {
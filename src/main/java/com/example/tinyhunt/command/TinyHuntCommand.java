@@ -1,8 +1,14 @@
 package com.example.tinyhunt.command;
 
 import com.example.tinyhunt.TinyHuntPlugin;
+import com.example.tinyhunt.game.GameLoop;
 import com.example.tinyhunt.game.GameManager;
 import com.example.tinyhunt.game.GameState;
+import com.example.tinyhunt.game.HudStats;
+import com.example.tinyhunt.game.LeaderboardMetric;
+import com.example.tinyhunt.game.LeaderboardSnapshot;
+import com.example.tinyhunt.game.Match;
+import com.example.tinyhunt.model.PlayerStats;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -10,6 +16,10 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -38,10 +48,14 @@ public final class TinyHuntCommand implements CommandExecutor, TabCompleter {
         String sub = args[0].toLowerCase(Locale.ROOT);
         switch (sub) {
             case "join" -> handleJoin(sender);
+            case "play" -> handlePlay(sender);
             case "leave" -> handleLeave(sender);
-            case "start" -> handleStart(sender);
-            case "stop" -> handleStop(sender);
+            case "stats" -> handleStats(sender, args);
+            case "top" -> handleTop(sender, args);
+            case "start" -> handleStart(sender, args);
+            case "stop" -> handleStop(sender, args);
             case "reload" -> handleReload(sender);
+            case "timings" -> handleTimings(sender);
             case "lobby" -> handleLobby(sender, args);
             case "arena" -> handleArena(sender, args);
             default -> sender.sendMessage(plugin.getMessage("messages.unknown-subcommand"));
@@ -61,6 +75,18 @@ public final class TinyHuntCommand implements CommandExecutor, TabCompleter {
         gameManager.getJoinMenu().open(player);
     }
 
+    private void handlePlay(CommandSender sender) {
+        if (!(sender instanceof Player player)) {
+            sender.sendMessage(plugin.getMessage("messages.player-only"));
+            return;
+        }
+        if (!sender.hasPermission("tinyhunt.play")) {
+            sender.sendMessage(plugin.getMessage("messages.no-permission"));
+            return;
+        }
+        gameManager.getMatchmaking().enqueue(player);
+    }
+
     private void handleLeave(CommandSender sender) {
         if (!(sender instanceof Player player)) {
             sender.sendMessage(plugin.getMessage("messages.player-only"));
@@ -70,37 +96,134 @@ public final class TinyHuntCommand implements CommandExecutor, TabCompleter {
             sender.sendMessage(plugin.getMessage("messages.no-permission"));
             return;
         }
-        gameManager.leaveQueue(player);
+        gameManager.leave(player);
     }
 
-    private void handleStart(CommandSender sender) {
+    private void handleStats(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("tinyhunt.play")) {
+            sender.sendMessage(plugin.getMessage("messages.no-permission"));
+            return;
+        }
+        UUID target;
+        String name;
+        if (args.length >= 2) {
+            // Only names the server already knows are resolved; an unknown name must not trigger a profile lookup.
+            Player online = Bukkit.getPlayerExact(args[1]);
+            OfflinePlayer known = online != null ? online : Bukkit.getOfflinePlayerIfCached(args[1]);
+            if (known == null) {
+                sender.sendMessage(plugin.getMessage("messages.stats-unknown-player", Map.of("player", args[1])));
+                return;
+            }
+            target = known.getUniqueId();
+            name = known.getName() != null ? known.getName() : args[1];
+        } else if (sender instanceof Player player) {
+            target = player.getUniqueId();
+            name = player.getName();
+        } else {
+            sender.sendMessage(plugin.getMessage("messages.player-only"));
+            return;
+        }
+        plugin.getStats().withProfile(target, stats -> sendStats(sender, name, stats));
+    }
+
+    private void sendStats(CommandSender sender, String name, PlayerStats stats) {
+        long survivalSeconds = stats.averageSurvivalTicks() / 20L;
+        sender.sendMessage(plugin.getMessage("messages.stats", Map.of(
+                "player", name,
+                "games", stats.games(),
+                "wins", stats.wins(),
+                "winrate", String.format(Locale.ROOT, "%.0f", stats.winRate() * 100.0D),
+                "catches", stats.catches(),
+                "conversions", stats.conversions(),
+                "survival", String.format(Locale.ROOT, "%02d:%02d", survivalSeconds / 60, survivalSeconds % 60))));
+    }
+
+    private void handleTop(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("tinyhunt.play")) {
+            sender.sendMessage(plugin.getMessage("messages.no-permission"));
+            return;
+        }
+        Optional<LeaderboardMetric> metric = args.length >= 2
+                ? LeaderboardMetric.byKey(args[1]) : Optional.of(LeaderboardMetric.WINS);
+        if (metric.isEmpty()) {
+            sender.sendMessage(plugin.getMessage("messages.top-unknown-metric",
+                    Map.of("metrics", String.join(", ", metricKeys()))));
+            return;
+        }
+        List<LeaderboardSnapshot.Entry> top = gameManager.getLeaderboard().getSnapshot().top(metric.get());
+        sender.sendMessage(plugin.getMessage("messages.top-header",
+                Map.of("metric", plugin.getMessage("messages.top-metric." + metric.get().getKey()))));
+        if (top.isEmpty()) {
+            sender.sendMessage(plugin.getMessage("messages.top-empty"));
+            return;
+        }
+        int rank = 1;
+        for (LeaderboardSnapshot.Entry entry : top) {
+            sender.sendMessage(plugin.getMessage("messages.top-line", Map.of(
+                    "rank", rank++, "player", entry.name(), "score", metric.get().format(entry.score()))));
+        }
+    }
+
+    private List<String> metricKeys() {
+        List<String> keys = new ArrayList<>();
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            keys.add(metric.getKey());
+        }
+        return keys;
+    }
+
+    private void handleStart(CommandSender sender, String[] args) {
         if (!sender.hasPermission("tinyhunt.admin")) {
             sender.sendMessage(plugin.getMessage("messages.no-permission"));
             return;
         }
-        if (gameManager.getState() == GameState.RUNNING) {
+        Optional<Match> match = resolveMatch(sender, args);
+        if (match.isEmpty()) {
+            return;
+        }
+        if (match.get().getState() == GameState.RUNNING) {
             sender.sendMessage(plugin.getMessage("messages.already-running"));
             return;
         }
-        if (gameManager.forceStart()) {
+        if (match.get().forceStart()) {
             sender.sendMessage(plugin.getMessage("messages.start-requested"));
         } else {
             sender.sendMessage(plugin.getMessage("messages.not-enough-players"));
         }
     }
 
-    private void handleStop(CommandSender sender) {
+    private void handleStop(CommandSender sender, String[] args) {
         if (!sender.hasPermission("tinyhunt.admin")) {
             sender.sendMessage(plugin.getMessage("messages.no-permission"));
             return;
         }
-        if (gameManager.stopManually()) {
+        Optional<Match> match = resolveMatch(sender, args);
+        if (match.isEmpty()) {
+            return;
+        }
+        if (match.get().stopManually()) {
             sender.sendMessage(plugin.getMessage("messages.stop-requested"));
         } else {
             sender.sendMessage(plugin.getMessage("messages.no-active-game"));
         }
     }
 
+    private Optional<Match> resolveMatch(CommandSender sender, String[] args) {
+        if (args.length < 2) {
+            Optional<Match> match = gameManager.getDefaultMatch();
+            if (match.isEmpty()) {
+                sender.sendMessage(plugin.getMessage("messages.menu-no-arena"));
+            }
+            return match;
+        }
+        String arenaName = args[1].toLowerCase(Locale.ROOT);
+        Optional<Match> match = gameManager.getMatchForArena(arenaName);
+        if (match.isEmpty()) {
+            sender.sendMessage(plugin.getMessage("messages.arena-not-found", Map.of("arena", arenaName)));
+        }
+        return match;
+    }
+
     private void handleReload(CommandSender sender) {
         if (!sender.hasPermission("tinyhunt.admin")) {
             sender.sendMessage(plugin.getMessage("messages.no-permission"));
@@ -110,6 +233,25 @@ public final class TinyHuntCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(plugin.getMessage("messages.reloaded"));
     }
 
+    private void handleTimings(CommandSender sender) {
+        if (!sender.hasPermission("tinyhunt.admin")) {
+            sender.sendMessage(plugin.getMessage("messages.no-permission"));
+            return;
+        }
+        GameLoop loop = plugin.getGameLoop();
+        sender.sendMessage(plugin.getMessage("messages.timings", Map.of(
+                "average", String.format(Locale.ROOT, "%.1f", loop.getAverageTickNanos() / 1000.0D),
+                "peak", String.format(Locale.ROOT, "%.1f", loop.getPeakTickNanos() / 1000.0D),
+                "tasks", loop.getPendingTaskCount())));
+        HudStats hudStats = gameManager.getHudStats();
+        sender.sendMessage(plugin.getMessage("messages.timings-hud", Map.of(
+                "sent", String.format(Locale.ROOT, "%.1f", hudStats.getAverageSent()),
+                "saved", String.format(Locale.ROOT, "%.1f", hudStats.getAverageSaved()),
+                "updates", hudStats.getUpdates())));
+        loop.resetPeak();
+        hudStats.reset();
+    }
+
     private void handleLobby(CommandSender sender, String[] args) {
         if (!(sender instanceof Player player)) {
             sender.sendMessage(plugin.getMessage("messages.player-only"));
@@ -194,20 +336,37 @@ public final class TinyHuntCommand implements CommandExecutor, TabCompleter {
             List<String> options = new ArrayList<>();
             if (sender.hasPermission("tinyhunt.play")) {
                 options.add("join");
+                options.add("play");
                 options.add("leave");
+                options.add("stats");
+                options.add("top");
             }
             if (sender.hasPermission("tinyhunt.admin")) {
-                options.addAll(Arrays.asList("start", "stop", "reload", "lobby", "arena"));
+                options.addAll(Arrays.asList("start", "stop", "reload", "timings", "lobby", "arena"));
             }
             return partialMatches(args[0], options);
         }
         if (args.length == 2) {
+            if ("stats".equalsIgnoreCase(args[0]) && sender.hasPermission("tinyhunt.play")) {
+                List<String> names = new ArrayList<>();
+                for (Player online : Bukkit.getOnlinePlayers()) {
+                    names.add(online.getName());
+                }
+                return partialMatches(args[1], names);
+            }
+            if ("top".equalsIgnoreCase(args[0]) && sender.hasPermission("tinyhunt.play")) {
+                return partialMatches(args[1], metricKeys());
+            }
             if ("lobby".equalsIgnoreCase(args[0]) && sender.hasPermission("tinyhunt.admin")) {
                 return partialMatches(args[1], Arrays.asList("setpos1", "setpos2"));
             }
             if ("arena".equalsIgnoreCase(args[0]) && sender.hasPermission("tinyhunt.admin")) {
                 return partialMatches(args[1], Arrays.asList("create", "set", "spawn"));
             }
+            if (("start".equalsIgnoreCase(args[0]) || "stop".equalsIgnoreCase(args[0]))
+                    && sender.hasPermission("tinyhunt.admin")) {
+                return partialMatches(args[1], gameManager.getArenaNames());
+            }
         }
         if (args.length == 3) {
             if ("arena".equalsIgnoreCase(args[0]) && sender.hasPermission("tinyhunt.admin")) {
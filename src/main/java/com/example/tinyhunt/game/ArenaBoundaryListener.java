@@ -1,10 +1,9 @@
 package com.example.tinyhunt.game;
 
-import com.example.tinyhunt.model.ArenaDefinition;
+import com.example.tinyhunt.model.AreaBounds;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.UUID;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
@@ -13,7 +12,8 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerMoveEvent;
 
 /**
- * Keeps participants within the configured arena bounds during a match.
+ * Keeps participants within the configured arena bounds during a match and feeds their movement into the
+ * match's proximity index.
  */
 public final class ArenaBoundaryListener implements Listener {
 
@@ -32,30 +32,35 @@ public final class ArenaBoundaryListener implements Listener {
             return;
         }
         Player player = event.getPlayer();
-        if (!gameManager.isParticipant(player) || gameManager.getState() != GameState.RUNNING) {
+        UUID uuid = player.getUniqueId();
+        Match match = gameManager.getMatch(uuid);
+        if (match == null || match.getState() != GameState.RUNNING || !match.isParticipant(uuid)) {
             return;
         }
-        Optional<ArenaDefinition> optionalArena = gameManager.getActiveArena();
-        if (optionalArena.isEmpty()) {
-            return;
-        }
-        ArenaDefinition arena = optionalArena.get();
-        if (!arena.getArea().isComplete()) {
+        AreaBounds bounds = match.getArenaBounds();
+        if (bounds == null) {
             return;
         }
         Location to = event.getTo();
         if (to == null) {
             return;
         }
-        if (arena.getArea().contains(to)) {
+        // Movement that stays inside a block lying wholly within the arena cannot cross the boundary, and the
+        // proximity index only tracks positions at block precision.
+        if (!event.hasChangedBlock() && bounds.containsBlock(to.getBlockX(), to.getBlockY(), to.getBlockZ())) {
+            return;
+        }
+        if (bounds.contains(to)) {
+            match.trackPosition(player, to);
             return;
         }
-        Location corrected = arena.getArea().clamp(to);
-        event.setTo(corrected);
+        bounds.clampInPlace(to);
+        event.setTo(to);
+        match.trackPosition(player, to);
         long now = System.currentTimeMillis();
-        long last = lastWarnings.getOrDefault(player.getUniqueId(), 0L);
+        long last = lastWarnings.getOrDefault(uuid, 0L);
         if (now - last >= WARNING_COOLDOWN_MS) {
-            lastWarnings.put(player.getUniqueId(), now);
+            lastWarnings.put(uuid, now);
             player.sendMessage(gameManager.getPlugin().getMessage("messages.arena-boundary-hit"));
         }
     }
@@ -1,11 +1,10 @@
 package com.example.tinyhunt.game;
 
 import com.example.tinyhunt.TinyHuntPlugin;
-import java.text.Normalizer;
+import com.example.tinyhunt.storage.ArenaRepository;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -52,8 +51,8 @@ public final class ArenaSetupManager {
 
     public void completeArenaName(Player player, String rawInput) {
         pendingNamePrompts.remove(player.getUniqueId());
-        String sanitized = sanitizeName(rawInput);
-        if (sanitized == null) {
+        String sanitized = ArenaRepository.sanitizeName(rawInput);
+        if (!ArenaRepository.isValidName(sanitized)) {
             player.sendMessage(plugin.getMessage("messages.arena-name-invalid"));
             return;
         }
@@ -125,35 +124,4 @@ public final class ArenaSetupManager {
         PersistentDataContainer container = meta.getPersistentDataContainer();
         return container.has(wandIdentifier, PersistentDataType.BYTE);
     }
-
-    private String sanitizeName(String input) {
-        if (input == null) {
-            return null;
-        }
-        String trimmed = input.trim();
-        if (trimmed.isEmpty()) {
-            return null;
-        }
-        String normalized = Normalizer.normalize(trimmed, Normalizer.Form.NFD)
-                .replaceAll("\\p{M}", "");
-        String sanitized = normalized.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9_-]", "-");
-        sanitized = sanitized.replaceAll("-+", "-");
-        sanitized = stripHyphen(sanitized);
-        if (sanitized.isEmpty()) {
-            return null;
-        }
-        return sanitized;
-    }
-
-    private String stripHyphen(String input) {
-        int start = 0;
-        int end = input.length();
-        while (start < end && input.charAt(start) == '-') {
-            start++;
-        }
-        while (end > start && input.charAt(end - 1) == '-') {
-            end--;
-        }
-        return input.substring(start, end);
-    }
 }
@@ -0,0 +1,169 @@
+package com.example.tinyhunt.game;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.logging.Level;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Single repeating driver that advances every TinyHunt timer from a tick-ordered queue.
+ *
+ * <p>Tasks due on the same tick run in the order they were scheduled, and the time spent inside
+ * {@link #tick()} is sampled so the plugin's total per-tick cost can be inspected in one place.</p>
+ */
+public final class GameLoop {
+
+    private static final int SAMPLE_WINDOW = 100;
+    private static final Comparator<Task> ORDER = Comparator.comparingLong((Task task) -> task.dueTick)
+            .thenComparingLong(task -> task.sequence);
+
+    private final Plugin plugin;
+    private final PriorityQueue<Task> queue = new PriorityQueue<>(ORDER);
+    private final long[] samples = new long[SAMPLE_WINDOW];
+    private BukkitTask driver;
+    private long currentTick;
+    private long sequence;
+    private long sampleSum;
+    private int sampleCount;
+    private long peakNanos;
+
+    public GameLoop(Plugin plugin) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin");
+    }
+
+    public void start() {
+        if (driver != null) {
+            return;
+        }
+        driver = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    public void stop() {
+        if (driver != null) {
+            driver.cancel();
+            driver = null;
+        }
+        for (Task task : queue) {
+            task.cancelled = true;
+        }
+        queue.clear();
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Runs the action once after the given number of ticks (at least one).
+     */
+    public Task runLater(long delayTicks, Runnable action) {
+        return schedule(delayTicks, 0L, action);
+    }
+
+    /**
+     * Runs the action after the given delay and then every {@code periodTicks} until cancelled.
+     */
+    public Task runRepeating(long delayTicks, long periodTicks, Runnable action) {
+        if (periodTicks <= 0L) {
+            throw new IllegalArgumentException("periodTicks must be positive");
+        }
+        return schedule(delayTicks, periodTicks, action);
+    }
+
+    private Task schedule(long delayTicks, long periodTicks, Runnable action) {
+        Task task = new Task(this, Objects.requireNonNull(action, "action"), periodTicks);
+        task.dueTick = currentTick + Math.max(1L, delayTicks);
+        task.sequence = sequence++;
+        queue.add(task);
+        return task;
+    }
+
+    void tick() {
+        long started = System.nanoTime();
+        currentTick++;
+        Task task;
+        while ((task = queue.peek()) != null && task.dueTick <= currentTick) {
+            queue.poll();
+            try {
+                task.action.run();
+            } catch (RuntimeException ex) {
+                plugin.getLogger().log(Level.SEVERE, "Unhandled exception in TinyHunt tick task", ex);
+            }
+            if (task.period > 0L && !task.cancelled) {
+                task.dueTick += task.period;
+                task.sequence = sequence++;
+                queue.add(task);
+            } else {
+                task.cancelled = true;
+            }
+        }
+        recordSample(System.nanoTime() - started);
+    }
+
+    private void recordSample(long nanos) {
+        int slot = (int) (currentTick % SAMPLE_WINDOW);
+        if (sampleCount < SAMPLE_WINDOW) {
+            sampleCount++;
+        } else {
+            sampleSum -= samples[slot];
+        }
+        samples[slot] = nanos;
+        sampleSum += nanos;
+        if (nanos > peakNanos) {
+            peakNanos = nanos;
+        }
+    }
+
+    /**
+     * Average time spent per tick across the last {@value #SAMPLE_WINDOW} ticks.
+     */
+    public long getAverageTickNanos() {
+        return sampleCount == 0 ? 0L : sampleSum / sampleCount;
+    }
+
+    public long getPeakTickNanos() {
+        return peakNanos;
+    }
+
+    public int getPendingTaskCount() {
+        return queue.size();
+    }
+
+    public void resetPeak() {
+        peakNanos = 0L;
+    }
+
+    /**
+     * Handle to a task scheduled on the game loop.
+     */
+    public static final class Task {
+
+        private final GameLoop loop;
+        private final Runnable action;
+        private final long period;
+        private long dueTick;
+        private long sequence;
+        private boolean cancelled;
+
+        private Task(GameLoop loop, Runnable action, long period) {
+            this.loop = loop;
+            this.action = action;
+            this.period = period;
+        }
+
+        public void cancel() {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            loop.queue.remove(this);
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
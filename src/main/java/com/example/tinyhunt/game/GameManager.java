@@ -4,146 +4,136 @@ import com.example.tinyhunt.TinyHuntPlugin;
 import com.example.tinyhunt.model.ArenaDefinition;
 import com.example.tinyhunt.model.ConfiguredArea;
 import com.example.tinyhunt.model.PlayerRole;
+import com.example.tinyhunt.model.PlayerStats;
+import com.example.tinyhunt.storage.ArenaRepository;
+import com.example.tinyhunt.storage.StatsRepository;
+import com.kjaza.tinymmo.party.Party;
+import com.kjaza.tinymmo.party.PartyManager;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.stream.Collectors;
 import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
-import org.bukkit.GameMode;
 import org.bukkit.Location;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.attribute.AttributeInstance;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
-import org.bukkit.potion.PotionEffect;
-import org.bukkit.potion.PotionEffectType;
 
 /**
- * Coordinates queue management, game flow, and configuration-backed state.
+ * Coordinates configuration-backed state and dispatches players to the match running in each arena.
  */
 public final class GameManager {
 
     private final TinyHuntPlugin plugin;
+    private final PartyManager partyManager;
     private ConfiguredArea lobbyArea;
-    private final Map<String, ArenaDefinition> arenas = new LinkedHashMap<>();
-    private String activeArenaName;
-
-    private final LinkedHashSet<UUID> queue = new LinkedHashSet<>();
-    private final LinkedHashSet<UUID> activePlayers = new LinkedHashSet<>();
-    private final Map<UUID, PlayerRole> roles = new HashMap<>();
-    private final Map<UUID, BukkitTask> pendingConversions = new HashMap<>();
-    private final Map<UUID, GameMode> storedModes = new HashMap<>();
-
-    private final MatchHud matchHud;
+    private final Map<String, Match> matches = new LinkedHashMap<>();
+    private final Map<UUID, Match> playerMatches = new HashMap<>();
+    private MatchSettings settings;
+    private HeartbeatSettings heartbeatSettings;
+    private MatchmakingSettings matchmakingSettings;
+
+    private final HudStats hudStats = new HudStats();
+    private final Leaderboard leaderboard;
+    private final MatchmakingService matchmaking;
+    private final ArenaRepository arenaRepository;
     private final JoinMenu joinMenu;
     private final ArenaSetupManager arenaSetupManager;
 
-    private GameState state = GameState.WAITING;
-    private BukkitTask countdownTask;
-    private int countdownSecondsRemaining;
-    private BukkitTask hunterSelectionTask;
-    private BukkitTask gameTimerTask;
-    private BukkitTask hudUpdateTask;
-    private long matchStartMillis;
-    private long matchEndMillis;
-    private boolean suddenDeathTriggered;
-    private long nextRevealMillis;
-
-    private int minPlayers;
-    private int maxPlayers;
-    private int autoStartSeconds;
-    private int hunterDelaySeconds;
-    private int gameDurationSeconds;
-    private int conversionDelaySeconds;
-    private int conversionInvulnerabilitySeconds;
-    private boolean suddenDeathEnabled;
-    private int suddenDeathStartSeconds;
-    private int suddenDeathRevealIntervalSeconds;
-    private int suddenDeathRevealDurationSeconds;
-    private int suddenDeathHunterSpeedAmplifier;
-    private float runnerScale;
-    private float hunterScale;
     private Attribute cachedScaleAttribute;
     private boolean scaleAttributeResolved;
     private boolean scaleWarningLogged;
+    private boolean lobbyDirty;
+    private boolean legacyArenasMigrated;
 
     public GameManager(TinyHuntPlugin plugin) {
         this.plugin = Objects.requireNonNull(plugin, "plugin");
-        this.matchHud = new MatchHud(plugin);
+        this.partyManager = Objects.requireNonNull(plugin.getPartyManager(), "partyManager");
+        this.arenaRepository = new ArenaRepository(plugin, plugin.getPersistence());
         this.joinMenu = new JoinMenu(plugin, this);
         this.arenaSetupManager = new ArenaSetupManager(plugin, this);
+        this.leaderboard = new Leaderboard(plugin, this);
+        this.matchmaking = new MatchmakingService(plugin, this);
         reloadSettings();
+        leaderboard.start(plugin.getConfig());
+        matchmaking.start();
     }
 
     public void reloadSettings() {
+        // Edits still waiting in the write-behind queue must reach the disk before the file is read back.
+        plugin.getPersistence().flushAndWait();
         plugin.reloadConfig();
-        minPlayers = Math.max(2, plugin.getConfig().getInt("players.min", 4));
-        maxPlayers = Math.max(minPlayers, plugin.getConfig().getInt("players.max", minPlayers));
-        autoStartSeconds = Math.max(5, plugin.getConfig().getInt("timers.auto-start-seconds", 120));
-        hunterDelaySeconds = Math.max(1, plugin.getConfig().getInt("timers.hunter-selection-seconds", 10));
-        gameDurationSeconds = Math.max(30, plugin.getConfig().getInt("timers.game-duration-seconds", 600));
-        conversionDelaySeconds = Math.max(1, plugin.getConfig().getInt("timers.runner-respawn-seconds", 5));
-        conversionInvulnerabilitySeconds = Math.max(0,
-                plugin.getConfig().getInt("timers.respawn-invulnerability-seconds", 2));
-        suddenDeathEnabled = plugin.getConfig().getBoolean("sudden-death.enabled", true);
-        suddenDeathStartSeconds = Math.max(10, plugin.getConfig().getInt("sudden-death.start-seconds", 120));
-        suddenDeathRevealIntervalSeconds = Math.max(5,
-                plugin.getConfig().getInt("sudden-death.reveal-interval-seconds", 20));
-        suddenDeathRevealDurationSeconds = Math.max(1,
-                plugin.getConfig().getInt("sudden-death.reveal-duration-seconds", 5));
-        suddenDeathHunterSpeedAmplifier = Math.max(0,
-                plugin.getConfig().getInt("sudden-death.hunter-speed-amplifier", 1));
-        runnerScale = (float) plugin.getConfig().getDouble("scales.runner", 0.33D);
-        hunterScale = (float) plugin.getConfig().getDouble("scales.hunter", 1.0D);
+        settings = MatchSettings.load(plugin.getConfig());
+        heartbeatSettings = HeartbeatSettings.load(plugin.getConfig());
+        matchmakingSettings = MatchmakingSettings.load(plugin.getConfig());
+        matchmaking.reload(matchmakingSettings);
 
         lobbyArea = ConfiguredArea.load(plugin.getConfig().getConfigurationSection("areas.lobby"));
 
-        arenas.clear();
-        ConfigurationSection arenasSection = plugin.getConfig().getConfigurationSection("arenas");
-        if (arenasSection != null) {
-            for (String key : arenasSection.getKeys(false)) {
-                ArenaDefinition definition = ArenaDefinition.load(key, arenasSection.getConfigurationSection(key));
-                arenas.put(key, definition);
-            }
-        }
-        activeArenaName = plugin.getConfig().getString("active-arena");
-        if (activeArenaName == null || !arenas.containsKey(activeArenaName)) {
-            activeArenaName = arenas.keySet().stream().findFirst().orElse(null);
+        if (arenaRepository.reload(plugin.getConfig())) {
+            legacyArenasMigrated = true;
+            scheduleConfigSave();
         }
+        syncMatches();
     }
 
-    public GameState getState() {
-        return state;
+    private void syncMatches() {
+        Iterator<Map.Entry<String, Match>> iterator = matches.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Match> entry = iterator.next();
+            if (!arenaRepository.contains(entry.getKey())) {
+                entry.getValue().shutdown();
+                iterator.remove();
+            }
+        }
+        for (String arenaName : arenaRepository.getNames()) {
+            matches.computeIfAbsent(arenaName, name -> new Match(plugin, this, name)).invalidateSpawns();
+        }
     }
 
     public TinyHuntPlugin getPlugin() {
         return plugin;
     }
 
+    public MatchSettings getSettings() {
+        return settings;
+    }
+
+    public MatchmakingSettings getMatchmakingSettings() {
+        return matchmakingSettings;
+    }
+
+    public MatchmakingService getMatchmaking() {
+        return matchmaking;
+    }
+
+    public HeartbeatSettings getHeartbeatSettings() {
+        return heartbeatSettings;
+    }
+
     public int getMinPlayers() {
-        return minPlayers;
+        return settings.minPlayers();
     }
 
     public int getMaxPlayers() {
-        return maxPlayers;
+        return settings.maxPlayers();
     }
 
     public ConfiguredArea getLobbyArea() {
         return lobbyArea;
     }
 
+    public HudStats getHudStats() {
+        return hudStats;
+    }
+
     public JoinMenu getJoinMenu() {
         return joinMenu;
     }
@@ -153,311 +143,182 @@ public final class GameManager {
     }
 
     public Optional<ArenaDefinition> getActiveArena() {
-        if (activeArenaName == null) {
-            return Optional.empty();
-        }
-        return Optional.ofNullable(arenas.get(activeArenaName));
+        return arenaRepository.find(arenaRepository.getActiveArena());
     }
 
-    public List<String> getArenaNames() {
-        return new ArrayList<>(arenas.keySet());
+    public Optional<ArenaDefinition> getArena(String arenaName) {
+        return arenaRepository.find(arenaName);
     }
 
-    public boolean isInQueue(Player player) {
-        return queue.contains(player.getUniqueId());
+    ArenaDefinition lookupArena(String arenaName) {
+        return arenaRepository.get(arenaName);
     }
 
-    public int getQueueSize() {
-        return queue.size();
+    public List<String> getArenaNames() {
+        return new ArrayList<>(arenaRepository.getNames());
     }
 
-    public boolean isParticipant(Player player) {
-        return activePlayers.contains(player.getUniqueId());
+    public List<Match> getMatches() {
+        return Collections.unmodifiableList(new ArrayList<>(matches.values()));
     }
 
-    public int getParticipantCount() {
-        return activePlayers.size();
+    public Optional<Match> getMatchForArena(String arenaName) {
+        return Optional.ofNullable(matches.get(arenaName));
     }
 
-    public boolean isHunter(Player player) {
-        return roles.getOrDefault(player.getUniqueId(), PlayerRole.RUNNER) == PlayerRole.HUNTER;
+    /**
+     * Resolves the match used when a command does not name an arena explicitly.
+     */
+    public Optional<Match> getDefaultMatch() {
+        String activeArena = arenaRepository.getActiveArena();
+        if (activeArena == null) {
+            return Optional.empty();
+        }
+        return getMatchForArena(activeArena);
     }
 
-    public void enqueue(Player player) {
-        if (!state.canJoin()) {
-            player.sendMessage(plugin.getMessage("messages.cannot-join"));
-            return;
-        }
-        if (queue.contains(player.getUniqueId())) {
-            player.sendMessage(plugin.getMessage("messages.already-queued"));
-            return;
-        }
-        if (queue.size() >= maxPlayers) {
-            player.sendMessage(plugin.getMessage("messages.queue-full"));
-            return;
-        }
-        queue.add(player.getUniqueId());
-        player.sendMessage(plugin.getMessage("messages.joined-queue", Map.of("position", queue.size())));
-        checkAutoStart();
+    /**
+     * Returns the match the player is queued for or playing in, or {@code null} when they are idle.
+     */
+    public Match getMatch(UUID playerId) {
+        return playerMatches.get(playerId);
     }
 
-    public void leaveQueue(Player player) {
-        if (queue.remove(player.getUniqueId())) {
-            player.sendMessage(plugin.getMessage("messages.left-queue"));
-            if (state == GameState.COUNTDOWN && queue.size() < minPlayers) {
-                cancelCountdown();
-                broadcastToQueue(plugin.getMessage("messages.countdown-cancelled"));
-            }
-            return;
-        }
-        if (isParticipant(player)) {
-            eliminatePlayer(player, false);
-        } else {
-            player.sendMessage(plugin.getMessage("messages.not-in-queue"));
+    /**
+     * Closest other participant of the player's match with the given role (any role when {@code null}).
+     */
+    public Optional<Player> nearest(Player from, PlayerRole role) {
+        Match match = playerMatches.get(from.getUniqueId());
+        if (match == null) {
+            return Optional.empty();
         }
+        return match.nearest(from.getLocation(), role, from.getUniqueId());
     }
 
-    public void checkAutoStart() {
-        if (state != GameState.WAITING) {
-            return;
-        }
-        if (queue.size() < minPlayers) {
-            return;
+    /**
+     * Participants of the player's match with the given role (any role when {@code null}) within the radius,
+     * including the player themselves when they match.
+     */
+    public List<Player> withinRadius(Player center, double radius, PlayerRole role) {
+        Match match = playerMatches.get(center.getUniqueId());
+        if (match == null) {
+            return List.of();
         }
-        startCountdown();
+        return match.withinRadius(center.getLocation(), radius, role);
     }
 
-    public void startCountdown() {
-        if (state == GameState.COUNTDOWN || state == GameState.RUNNING) {
-            return;
-        }
-        if (queue.size() < minPlayers) {
-            return;
-        }
-        state = GameState.COUNTDOWN;
-        countdownSecondsRemaining = autoStartSeconds;
-        broadcastToQueue(plugin.getMessage("messages.countdown-start",
-                Map.of("seconds", countdownSecondsRemaining)));
-        countdownTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (countdownSecondsRemaining <= 0) {
-                    cancel();
-                    beginMatch();
-                    return;
-                }
-                if (queue.size() < minPlayers) {
-                    broadcastToQueue(plugin.getMessage("messages.countdown-cancelled"));
-                    cancelCountdown();
-                    return;
-                }
-                if (countdownSecondsRemaining <= 10 || countdownSecondsRemaining % 30 == 0) {
-                    broadcastToQueue(plugin.getMessage("messages.countdown-tick",
-                            Map.of("seconds", countdownSecondsRemaining)));
-                }
-                countdownSecondsRemaining--;
-            }
-        }.runTaskTimer(plugin, 20L, 20L);
+    void track(UUID playerId, Match match) {
+        playerMatches.put(playerId, match);
     }
 
-    public boolean forceStart() {
-        if (state == GameState.RUNNING) {
-            return false;
-        }
-        if (queue.size() < minPlayers) {
-            broadcastToQueue(plugin.getMessage("messages.not-enough-players"));
-            return false;
-        }
-        beginMatch();
-        return true;
+    void untrack(UUID playerId, Match match) {
+        playerMatches.remove(playerId, match);
     }
 
-    private void beginMatch() {
-        cancelCountdown();
-        if (!validateConfiguration()) {
-            broadcastToQueue(plugin.getMessage("messages.configuration-missing"));
-            state = GameState.WAITING;
+    public void enqueue(Player player, String arenaName) {
+        Match current = playerMatches.get(player.getUniqueId());
+        if (current != null && !current.getArenaName().equals(arenaName)) {
+            player.sendMessage(plugin.getMessage("messages.already-queued-other",
+                    Map.of("arena", current.getArenaName())));
             return;
         }
-        state = GameState.RUNNING;
-        roles.clear();
-        activePlayers.clear();
-        for (UUID uuid : queue) {
-            Player player = Bukkit.getPlayer(uuid);
-            if (player != null && player.isOnline()) {
-                activePlayers.add(uuid);
-            }
+        Match match = matches.get(arenaName);
+        if (match == null) {
+            player.sendMessage(plugin.getMessage("messages.arena-not-found", Map.of("arena", arenaName)));
+            return;
         }
-        queue.clear();
-        if (activePlayers.size() < minPlayers) {
-            broadcastToQueue(plugin.getMessage("messages.not-enough-players"));
-            state = GameState.WAITING;
+        List<Player> group = queueGroup(player);
+        if (group.isEmpty()) {
             return;
         }
-        for (UUID uuid : activePlayers) {
-            Player player = Bukkit.getPlayer(uuid);
-            if (player != null) {
-                roles.put(uuid, PlayerRole.RUNNER);
-                applyRunnerState(player);
-                teleportToArena(player);
-                player.sendMessage(plugin.getMessage("messages.game-start-runner"));
-            }
+        // Picking an arena explicitly replaces a pending quick-play search.
+        for (Player member : group) {
+            matchmaking.remove(member.getUniqueId());
         }
-        broadcastToParticipants(plugin.getMessage("messages.game-start"));
-        suddenDeathTriggered = false;
-        nextRevealMillis = 0L;
-        matchStartMillis = System.currentTimeMillis();
-        matchEndMillis = matchStartMillis + gameDurationSeconds * 1000L;
-        scheduleHunterSelection();
-        scheduleGameTimer();
-        matchHud.start(activePlayers);
-        startHudUpdates();
-    }
-
-    private void scheduleHunterSelection() {
-        cancelHunterSelection();
-        hunterSelectionTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                selectRandomHunter();
+        if (group.size() == 1) {
+            match.enqueue(player);
+        } else {
+            match.enqueueParty(group);
+        }
+    }
+
+    /**
+     * The players who queue together with this one: the online members of the party they lead, leader first,
+     * or the player alone. Membership comes from one immutable party snapshot, so it cannot change while the
+     * group is being queued. Returns an empty list, after telling the player why, when they are in a party they
+     * do not lead or another member is already queued or playing.
+     */
+    List<Player> queueGroup(Player player) {
+        Party party = partyManager.getPartyOf(player.getUniqueId());
+        if (party == null || party.members.size() < 2) {
+            return List.of(player);
+        }
+        if (!party.owner.equals(player.getUniqueId())) {
+            player.sendMessage(plugin.getMessage("messages.party-leader-only"));
+            return List.of();
+        }
+        List<Player> group = new ArrayList<>(party.members.size());
+        group.add(player);
+        for (UUID memberId : party.members) {
+            Player member = Bukkit.getPlayer(memberId);
+            if (member == null || memberId.equals(player.getUniqueId())) {
+                continue;
             }
-        }.runTaskLater(plugin, hunterDelaySeconds * 20L);
-    }
-
-    private void scheduleGameTimer() {
-        cancelGameTimer();
-        gameTimerTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                concludeGame(GameEndReason.RUNNERS_SURVIVED);
+            if (playerMatches.containsKey(memberId)) {
+                player.sendMessage(plugin.getMessage("messages.party-member-busy",
+                        Map.of("player", member.getName())));
+                return List.of();
             }
-        }.runTaskLater(plugin, gameDurationSeconds * 20L);
-    }
-
-    public void selectRandomHunter() {
-        List<Player> runners = activePlayers.stream()
-                .map(Bukkit::getPlayer)
-                .filter(Objects::nonNull)
-                .filter(player -> roles.getOrDefault(player.getUniqueId(), PlayerRole.RUNNER) == PlayerRole.RUNNER)
-                .collect(Collectors.toList());
-        if (runners.isEmpty()) {
-            concludeGame(GameEndReason.CONFIGURATION_ERROR);
-            return;
+            group.add(member);
         }
-        Player chosen = runners.get(ThreadLocalRandom.current().nextInt(runners.size()));
-        promoteToHunter(chosen, true);
-        broadcastToParticipants(plugin.getMessage("messages.hunter-selected",
-                Map.of("player", chosen.getName())));
+        return group;
     }
 
-    public void handleHunterHit(Player hunter, Player target) {
-        if (state != GameState.RUNNING) {
-            return;
-        }
-        if (!isHunter(hunter)) {
-            return;
-        }
-        if (!isParticipant(target)) {
+    public void leave(Player player) {
+        if (matchmaking.remove(player.getUniqueId())) {
+            player.sendMessage(plugin.getMessage("messages.left-queue"));
             return;
         }
-        if (isHunter(target) || isConverting(target)) {
+        Match match = playerMatches.get(player.getUniqueId());
+        if (match == null) {
+            player.sendMessage(plugin.getMessage("messages.not-in-queue"));
             return;
         }
-        beginRunnerConversion(target);
-    }
-
-    public void eliminatePlayer(Player player, boolean silent) {
-        cancelConversion(player.getUniqueId());
-        roles.remove(player.getUniqueId());
-        activePlayers.remove(player.getUniqueId());
-        resetPlayerState(player);
-        teleportToLobby(player);
-        if (!silent) {
-            broadcastToParticipants(plugin.getMessage("messages.player-left",
-                    Map.of("player", player.getName())));
-        }
-        if (state == GameState.RUNNING && getRemainingRunners().isEmpty()) {
-            concludeGame(GameEndReason.HUNTERS_ELIMINATED_ALL);
-        }
+        match.leave(player);
     }
 
     public void handlePlayerQuit(Player player) {
-        UUID uuid = player.getUniqueId();
-        boolean removedFromQueue = queue.remove(uuid);
-        if (removedFromQueue && state == GameState.COUNTDOWN && queue.size() < minPlayers) {
-            cancelCountdown();
-            broadcastToQueue(plugin.getMessage("messages.countdown-cancelled"));
-        }
-        if (activePlayers.remove(uuid)) {
-            cancelConversion(uuid);
-            roles.remove(uuid);
-            if (state == GameState.RUNNING && getRemainingRunners().isEmpty()) {
-                concludeGame(GameEndReason.HUNTERS_ELIMINATED_ALL);
-            }
-        }
-    }
-
-    public void concludeGame(GameEndReason reason) {
-        if (state != GameState.RUNNING && state != GameState.COUNTDOWN) {
-            return;
+        matchmaking.remove(player.getUniqueId());
+        Match match = playerMatches.get(player.getUniqueId());
+        if (match != null) {
+            match.handlePlayerQuit(player);
         }
-        cancelCountdown();
-        cancelHunterSelection();
-        cancelGameTimer();
-        cancelHudUpdates();
-        cancelConversions();
-        matchHud.stop();
-        suddenDeathTriggered = false;
-        nextRevealMillis = 0L;
-        state = GameState.ENDING;
-        String message = switch (reason) {
-            case HUNTERS_ELIMINATED_ALL -> plugin.getMessage("messages.hunters-win");
-            case RUNNERS_SURVIVED -> plugin.getMessage("messages.runners-win");
-            case MANUAL_STOP -> plugin.getMessage("messages.manual-stop");
-            case CONFIGURATION_ERROR -> plugin.getMessage("messages.configuration-missing");
-        };
-        broadcastToParticipants(message);
-        for (UUID uuid : new ArrayList<>(activePlayers)) {
-            Player player = Bukkit.getPlayer(uuid);
-            if (player != null) {
-                resetPlayerState(player);
-                teleportToLobby(player);
-            }
-        }
-        activePlayers.clear();
-        roles.clear();
-        state = GameState.WAITING;
     }
 
-    public boolean stopManually() {
-        if (state == GameState.WAITING) {
-            return false;
-        }
-        if (state == GameState.COUNTDOWN) {
-            cancelCountdown();
-            broadcastToQueue(plugin.getMessage("messages.countdown-cancelled"));
-            return true;
+    public void cancelAllTasks() {
+        for (Match match : matches.values()) {
+            match.cancelAllTasks();
         }
-        concludeGame(GameEndReason.MANUAL_STOP);
-        return true;
+        leaderboard.stop();
+        matchmaking.stop();
     }
 
-    private void teleportToArena(Player player) {
-        ArenaDefinition arena = getActiveArena()
-                .orElseThrow(() -> new IllegalStateException("Active arena not configured"));
-        Location target = pickArenaSpawn(arena).orElseGet(() -> arena.getArea().getRandomLocation());
-        player.teleport(target);
+    public Leaderboard getLeaderboard() {
+        return leaderboard;
     }
 
-    private Optional<Location> pickArenaSpawn(ArenaDefinition arena) {
-        List<Location> spawns = arena.getSpawns();
-        if (spawns.isEmpty()) {
-            return Optional.empty();
+    /**
+     * Stores a finished match's statistics and feeds the players' new totals into the leaderboard.
+     */
+    void recordMatchStats(Map<UUID, PlayerStats> increments) {
+        StatsRepository stats = plugin.getStats();
+        stats.record(increments);
+        for (UUID uuid : increments.keySet()) {
+            stats.withProfile(uuid, total -> leaderboard.update(uuid, total));
         }
-        return Optional.of(spawns.get(ThreadLocalRandom.current().nextInt(spawns.size())));
     }
 
-    private void teleportToLobby(Player player) {
+    void teleportToLobby(Player player) {
         if (lobbyArea != null && lobbyArea.isComplete()) {
             player.teleport(lobbyArea.getCenter());
         } else {
@@ -465,281 +326,6 @@ public final class GameManager {
         }
     }
 
-    private void applyRunnerState(Player player) {
-        restoreGameMode(player);
-        applyScale(player, runnerScale);
-        player.setHealth(Math.min(player.getHealth(), player.getMaxHealth()));
-        player.setFoodLevel(20);
-    }
-
-    private void promoteToHunter(Player player, boolean announce) {
-        roles.put(player.getUniqueId(), PlayerRole.HUNTER);
-        restoreGameMode(player);
-        applyScale(player, hunterScale);
-        teleportToArena(player);
-        applyHunterBuffs(player);
-        if (announce) {
-            player.sendMessage(plugin.getMessage("messages.you-are-hunter"));
-        } else {
-            player.sendMessage(plugin.getMessage("messages.now-hunter"));
-        }
-    }
-
-    private void resetPlayerState(Player player) {
-        applyScale(player, 1.0F);
-        restoreGameMode(player);
-        player.setNoDamageTicks(0);
-        for (PotionEffect effect : new ArrayList<>(player.getActivePotionEffects())) {
-            player.removePotionEffect(effect.getType());
-        }
-    }
-
-    private List<Player> getRemainingRunners() {
-        return activePlayers.stream()
-                .map(Bukkit::getPlayer)
-                .filter(Objects::nonNull)
-                .filter(player -> roles.getOrDefault(player.getUniqueId(), PlayerRole.RUNNER) == PlayerRole.RUNNER)
-                .collect(Collectors.toList());
-    }
-
-    private int getRunnerCount() {
-        return (int) activePlayers.stream()
-                .map(uuid -> roles.getOrDefault(uuid, PlayerRole.RUNNER))
-                .filter(role -> role == PlayerRole.RUNNER)
-                .count();
-    }
-
-    private int getHunterCount() {
-        return (int) activePlayers.stream()
-                .map(uuid -> roles.getOrDefault(uuid, PlayerRole.RUNNER))
-                .filter(role -> role == PlayerRole.HUNTER)
-                .count();
-    }
-
-    private boolean validateConfiguration() {
-        if (lobbyArea == null || !lobbyArea.isComplete()) {
-            return false;
-        }
-        return getActiveArena()
-                .filter(arena -> arena.getArea().isComplete() && !arena.getSpawns().isEmpty())
-                .isPresent();
-    }
-
-    public void cancelAllTasks() {
-        cancelCountdown();
-        cancelHunterSelection();
-        cancelGameTimer();
-        cancelHudUpdates();
-        cancelConversions();
-    }
-
-    private void cancelCountdown() {
-        if (countdownTask != null) {
-            countdownTask.cancel();
-            countdownTask = null;
-        }
-        if (state == GameState.COUNTDOWN) {
-            state = GameState.WAITING;
-        }
-    }
-
-    private void cancelHunterSelection() {
-        if (hunterSelectionTask != null) {
-            hunterSelectionTask.cancel();
-            hunterSelectionTask = null;
-        }
-    }
-
-    private void cancelGameTimer() {
-        if (gameTimerTask != null) {
-            gameTimerTask.cancel();
-            gameTimerTask = null;
-        }
-    }
-
-    private void broadcastToQueue(String message) {
-        broadcast(queue, message);
-    }
-
-    private void broadcastToParticipants(String message) {
-        broadcast(activePlayers, message);
-    }
-
-    private void broadcast(Collection<UUID> recipients, String message) {
-        for (UUID uuid : recipients) {
-            Player player = Bukkit.getPlayer(uuid);
-            if (player != null && message != null) {
-                player.sendMessage(message);
-            }
-        }
-    }
-
-    private boolean isConverting(Player player) {
-        return roles.getOrDefault(player.getUniqueId(), PlayerRole.RUNNER) == PlayerRole.CONVERTING;
-    }
-
-    private void beginRunnerConversion(Player player) {
-        UUID uuid = player.getUniqueId();
-        roles.put(uuid, PlayerRole.CONVERTING);
-        storedModes.put(uuid, player.getGameMode());
-        player.setGameMode(GameMode.SPECTATOR);
-        player.sendMessage(plugin.getMessage("messages.runner-respawn-start",
-                Map.of("seconds", conversionDelaySeconds)));
-        broadcastToParticipants(plugin.getMessage("messages.runner-respawn-broadcast",
-                Map.of("player", player.getName(), "seconds", conversionDelaySeconds)));
-        BukkitTask task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                finishRunnerConversion(uuid);
-            }
-        }.runTaskLater(plugin, conversionDelaySeconds * 20L);
-        pendingConversions.put(uuid, task);
-    }
-
-    private void finishRunnerConversion(UUID uuid) {
-        pendingConversions.remove(uuid);
-        if (state != GameState.RUNNING) {
-            return;
-        }
-        Player player = Bukkit.getPlayer(uuid);
-        if (player == null) {
-            return;
-        }
-        roles.put(uuid, PlayerRole.HUNTER);
-        restoreGameMode(player);
-        applyScale(player, hunterScale);
-        teleportToArena(player);
-        if (conversionInvulnerabilitySeconds > 0) {
-            player.setNoDamageTicks(conversionInvulnerabilitySeconds * 20);
-        }
-        applyHunterBuffs(player);
-        player.sendMessage(plugin.getMessage("messages.runner-respawn-complete"));
-        broadcastToParticipants(plugin.getMessage("messages.runner-converted", Map.of("player", player.getName())));
-        if (getRemainingRunners().isEmpty()) {
-            concludeGame(GameEndReason.HUNTERS_ELIMINATED_ALL);
-        }
-    }
-
-    private void cancelConversion(UUID uuid) {
-        BukkitTask task = pendingConversions.remove(uuid);
-        if (task != null) {
-            task.cancel();
-        }
-        storedModes.remove(uuid);
-    }
-
-    private void cancelConversions() {
-        for (BukkitTask task : pendingConversions.values()) {
-            task.cancel();
-        }
-        pendingConversions.clear();
-        storedModes.clear();
-    }
-
-    private void startHudUpdates() {
-        cancelHudUpdates();
-        hudUpdateTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                updateHud();
-            }
-        }.runTaskTimer(plugin, 0L, 20L);
-    }
-
-    private void cancelHudUpdates() {
-        if (hudUpdateTask != null) {
-            hudUpdateTask.cancel();
-            hudUpdateTask = null;
-        }
-    }
-
-    private void updateHud() {
-        if (state != GameState.RUNNING) {
-            return;
-        }
-        long now = System.currentTimeMillis();
-        long timeRemainingSeconds = Math.max(0L, (matchEndMillis - now + 999L) / 1000L);
-        if (suddenDeathEnabled && !suddenDeathTriggered && timeRemainingSeconds <= suddenDeathStartSeconds) {
-            triggerSuddenDeath();
-        }
-        long revealSeconds = -1L;
-        if (suddenDeathTriggered) {
-            if (now >= nextRevealMillis) {
-                performSuddenDeathReveal();
-            }
-            revealSeconds = Math.max(0L, (nextRevealMillis - System.currentTimeMillis() + 999L) / 1000L);
-        }
-        matchHud.update(activePlayers, createHudSnapshot(timeRemainingSeconds, revealSeconds));
-    }
-
-    private MatchHud.HudSnapshot createHudSnapshot(long timeRemainingSeconds, long nextRevealSeconds) {
-        String formattedTime = formatDuration(timeRemainingSeconds);
-        String bossBarTemplate = getHudString("hud.bossbar-title", "&6Tempo: &e%time%");
-        String bossBarTitle = ChatColor.stripColor(bossBarTemplate.replace("%time%", formattedTime));
-        String scoreboardTitle = ChatColor.stripColor(getHudString("hud.scoreboard-title", "TinyHunt"));
-        String extraLine = suddenDeathTriggered
-                ? ChatColor.stripColor(getHudString("hud.extra-sudden-death", "Sudden death!"))
-                : ChatColor.stripColor(getHudString("hud.extra-match", ""));
-        double progress = gameDurationSeconds <= 0 ? 0.0D
-                : Math.max(0.0D, Math.min(1.0D, (double) timeRemainingSeconds / gameDurationSeconds));
-        return new MatchHud.HudSnapshot(bossBarTitle, scoreboardTitle, progress, formattedTime, getRunnerCount(),
-                getHunterCount(), nextRevealSeconds, extraLine);
-    }
-
-    private void triggerSuddenDeath() {
-        suddenDeathTriggered = true;
-        broadcastToParticipants(plugin.getMessage("messages.sudden-death-start"));
-        nextRevealMillis = System.currentTimeMillis();
-        for (UUID uuid : activePlayers) {
-            Player player = Bukkit.getPlayer(uuid);
-            if (player != null && roles.getOrDefault(uuid, PlayerRole.RUNNER) == PlayerRole.HUNTER) {
-                applyHunterBuffs(player);
-            }
-        }
-        performSuddenDeathReveal();
-    }
-
-    private void performSuddenDeathReveal() {
-        nextRevealMillis = System.currentTimeMillis() + suddenDeathRevealIntervalSeconds * 1000L;
-        for (Player runner : getRemainingRunners()) {
-            runner.addPotionEffect(new PotionEffect(PotionEffectType.GLOWING,
-                    suddenDeathRevealDurationSeconds * 20, 0, true, false, true));
-        }
-        if (!getRemainingRunners().isEmpty()) {
-            broadcastToParticipants(plugin.getMessage("messages.sudden-death-reveal",
-                    Map.of("seconds", suddenDeathRevealDurationSeconds)));
-        }
-    }
-
-    private void applyHunterBuffs(Player player) {
-        if (!suddenDeathTriggered || suddenDeathHunterSpeedAmplifier <= 0) {
-            return;
-        }
-        player.addPotionEffect(new PotionEffect(PotionEffectType.SPEED, suddenDeathRevealIntervalSeconds * 20,
-                suddenDeathHunterSpeedAmplifier - 1, true, false, true));
-    }
-
-    private void restoreGameMode(Player player) {
-        GameMode previous = storedModes.remove(player.getUniqueId());
-        if (previous != null) {
-            player.setGameMode(previous);
-        } else if (player.getGameMode() == GameMode.SPECTATOR) {
-            player.setGameMode(GameMode.SURVIVAL);
-        }
-    }
-
-    private String getHudString(String path, String def) {
-        String value = plugin.getConfig().getString(path, def);
-        return ChatColor.translateAlternateColorCodes('&', value);
-    }
-
-    private String formatDuration(long seconds) {
-        long clamped = Math.max(0, seconds);
-        long minutes = clamped / 60;
-        long remaining = clamped % 60;
-        return String.format(Locale.ROOT, "%02d:%02d", minutes, remaining);
-    }
-
     public void saveLobbyCorner(Location location, boolean first) {
         if (lobbyArea == null) {
             lobbyArea = new ConfiguredArea();
@@ -753,7 +339,7 @@ public final class GameManager {
     }
 
     public boolean saveArenaCorner(String arenaName, Location location, boolean first) {
-        ArenaDefinition arena = arenas.get(arenaName);
+        ArenaDefinition arena = arenaRepository.get(arenaName);
         if (arena == null) {
             return false;
         }
@@ -762,46 +348,64 @@ public final class GameManager {
         } else {
             arena.getArea().setPos2(location);
         }
-        persistArenas();
+        arenaRepository.save(arena);
+        getMatchForArena(arenaName).ifPresent(Match::invalidateSpawns);
         return true;
     }
 
     public boolean addArenaSpawn(String arenaName, Location location) {
-        ArenaDefinition arena = arenas.get(arenaName);
+        ArenaDefinition arena = arenaRepository.get(arenaName);
         if (arena == null) {
             return false;
         }
         arena.addSpawn(location);
-        persistArenas();
+        arenaRepository.save(arena);
+        getMatchForArena(arenaName).ifPresent(Match::invalidateSpawns);
         return true;
     }
 
     public boolean arenaExists(String arenaName) {
-        return arenas.containsKey(arenaName);
+        return arenaRepository.contains(arenaName);
     }
 
     public boolean createArena(String arenaName) {
-        if (arenas.containsKey(arenaName)) {
+        if (arenaRepository.create(arenaName) == null) {
             return false;
         }
-        arenas.put(arenaName, new ArenaDefinition(arenaName));
-        if (activeArenaName == null) {
-            activeArenaName = arenaName;
-        }
-        persistArenas();
+        matches.put(arenaName, new Match(plugin, this, arenaName));
         return true;
     }
 
     public boolean setActiveArena(String arenaName) {
-        if (!arenas.containsKey(arenaName)) {
-            return false;
-        }
-        activeArenaName = arenaName;
-        persistArenas();
-        return true;
+        return arenaRepository.setActiveArena(arenaName);
     }
 
     private void persistLobby() {
+        lobbyDirty = true;
+        scheduleConfigSave();
+    }
+
+    private void scheduleConfigSave() {
+        plugin.getPersistence().markDirty(plugin.getDataFolder().toPath().resolve("config.yml"),
+                this::snapshotConfig);
+    }
+
+    /**
+     * Writes the pending lobby edits into the configuration and serializes it, once per flush.
+     */
+    private String snapshotConfig() {
+        if (lobbyDirty) {
+            writeLobby();
+            lobbyDirty = false;
+        }
+        if (legacyArenasMigrated) {
+            removeLegacyArenas();
+            legacyArenasMigrated = false;
+        }
+        return plugin.getConfig().saveToString();
+    }
+
+    private void writeLobby() {
         ConfigurationSection areas = plugin.getConfig().getConfigurationSection("areas");
         if (areas == null) {
             areas = plugin.getConfig().createSection("areas");
@@ -813,31 +417,22 @@ public final class GameManager {
         if (lobbyArea != null) {
             lobbyArea.save(lobbySection);
         }
-        plugin.saveConfig();
     }
 
-    private void persistArenas() {
-        ConfigurationSection arenasSection = plugin.getConfig().getConfigurationSection("arenas");
-        if (arenasSection == null) {
-            arenasSection = plugin.getConfig().createSection("arenas");
-        }
-        for (String key : new ArrayList<>(arenasSection.getKeys(false))) {
-            arenasSection.set(key, null);
-        }
-        for (ArenaDefinition arena : arenas.values()) {
-            ConfigurationSection section = arenasSection.createSection(arena.getName());
-            arena.save(section);
-        }
-        plugin.getConfig().set("active-arena", activeArenaName);
+    /**
+     * Drops arena data that now lives in the arena repository, including the single-arena keys of older versions.
+     */
+    private void removeLegacyArenas() {
+        plugin.getConfig().set("arenas", null);
+        plugin.getConfig().set("active-arena", null);
         ConfigurationSection areas = plugin.getConfig().getConfigurationSection("areas");
         if (areas != null) {
             areas.set("arena", null);
         }
         plugin.getConfig().set("arena-spawns", null);
-        plugin.saveConfig();
     }
 
-    private void applyScale(Player player, float scale) {
+    void applyScale(Player player, float scale) {
         Attribute attribute = resolveScaleAttribute();
         if (attribute == null) {
             return;
@@ -0,0 +1,161 @@
+package com.example.tinyhunt.game;
+
+import com.example.tinyhunt.message.Messages;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Predicate;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Location;
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+/**
+ * Per-tick distance pass that plays a heartbeat to runners, faster as the nearest hunter gets closer.
+ *
+ * <p>Hunter coordinates are copied once per tick into primitive arrays and every runner is compared against
+ * them with squared distances, so a pass never allocates. Each runner's distance is reduced to an intensity
+ * band. The sound and the band's action bar text go out together at the band's beat period, which keeps the
+ * text from fading while costing no more packets than the beat itself; the text is skipped while the action bar
+ * shows a skill cooldown.</p>
+ */
+final class HeartbeatEngine {
+
+    private final Messages messages;
+    private final Predicate<UUID> actionBarBusy;
+    private final Map<UUID, Pulse> pulses = new HashMap<>();
+    private final Location scratch = new Location(null, 0.0D, 0.0D, 0.0D);
+    private double[] hunterX = new double[8];
+    private double[] hunterY = new double[8];
+    private double[] hunterZ = new double[8];
+    private World[] hunterWorld = new World[8];
+
+    HeartbeatEngine(Messages messages, Predicate<UUID> actionBarBusy) {
+        this.messages = Objects.requireNonNull(messages, "messages");
+        this.actionBarBusy = Objects.requireNonNull(actionBarBusy, "actionBarBusy");
+    }
+
+    void tick(long now, HeartbeatSettings settings, Collection<Player> hunters, Collection<Player> runners) {
+        int hunterCount = snapshotHunters(hunters);
+        for (Player runner : runners) {
+            runner.getLocation(scratch);
+            World world = scratch.getWorld();
+            double x = scratch.getX();
+            double y = scratch.getY();
+            double z = scratch.getZ();
+            double closest = Double.MAX_VALUE;
+            for (int i = 0; i < hunterCount; i++) {
+                if (hunterWorld[i] != world) {
+                    continue;
+                }
+                double dx = hunterX[i] - x;
+                double dy = hunterY[i] - y;
+                double dz = hunterZ[i] - z;
+                double distanceSquared = dx * dx + dy * dy + dz * dz;
+                if (distanceSquared < closest) {
+                    closest = distanceSquared;
+                }
+            }
+            int intensity = settings.intensity(closest);
+            Pulse pulse = pulses.get(runner.getUniqueId());
+            if (pulse == null) {
+                if (intensity == 0) {
+                    continue;
+                }
+                pulse = new Pulse(runner);
+                pulses.put(runner.getUniqueId(), pulse);
+            }
+            pulse.seenTick = now;
+            if (pulse.intensity != intensity) {
+                pulse.intensity = intensity;
+                pulse.nextBeatTick = now;
+                if (intensity == 0 && !actionBarBusy.test(pulse.playerId)) {
+                    runner.sendActionBar(Component.empty());
+                }
+            }
+            if (intensity > 0 && now >= pulse.nextBeatTick) {
+                pulse.nextBeatTick = now + settings.beatTicks(intensity);
+                runner.playSound(runner, Sound.ENTITY_WARDEN_HEARTBEAT, 1.0F, 1.0F);
+                if (!actionBarBusy.test(pulse.playerId)) {
+                    runner.sendActionBar(bandMessage(intensity));
+                }
+            }
+        }
+        // Runners that were converted, eliminated or left are dropped and their indicator cleared.
+        Iterator<Pulse> iterator = pulses.values().iterator();
+        while (iterator.hasNext()) {
+            Pulse pulse = iterator.next();
+            if (pulse.seenTick == now && pulse.intensity > 0) {
+                continue;
+            }
+            iterator.remove();
+            if (pulse.seenTick != now && pulse.intensity > 0 && pulse.player.isOnline()
+                    && !actionBarBusy.test(pulse.playerId)) {
+                pulse.player.sendActionBar(Component.empty());
+            }
+        }
+    }
+
+    void clear() {
+        for (Pulse pulse : pulses.values()) {
+            if (pulse.intensity > 0 && pulse.player.isOnline() && !actionBarBusy.test(pulse.playerId)) {
+                pulse.player.sendActionBar(Component.empty());
+            }
+        }
+        pulses.clear();
+    }
+
+    private int snapshotHunters(Collection<Player> hunters) {
+        int size = hunters.size();
+        if (size > hunterX.length) {
+            int capacity = Math.max(size, hunterX.length * 2);
+            hunterX = new double[capacity];
+            hunterY = new double[capacity];
+            hunterZ = new double[capacity];
+            hunterWorld = new World[capacity];
+        }
+        int count = 0;
+        for (Player hunter : hunters) {
+            if (count == size) {
+                break;
+            }
+            hunter.getLocation(scratch);
+            hunterWorld[count] = scratch.getWorld();
+            hunterX[count] = scratch.getX();
+            hunterY[count] = scratch.getY();
+            hunterZ[count] = scratch.getZ();
+            count++;
+        }
+        return count;
+    }
+
+    private Component bandMessage(int intensity) {
+        if (intensity == 0) {
+            return Component.empty();
+        }
+        List<Component> lines = messages.componentLines("hud.heartbeat");
+        if (lines.isEmpty()) {
+            return Component.empty();
+        }
+        return lines.get(Math.min(lines.size(), intensity) - 1);
+    }
+
+    private static final class Pulse {
+
+        private final Player player;
+        private final UUID playerId;
+        private int intensity;
+        private long nextBeatTick;
+        private long seenTick;
+
+        private Pulse(Player player) {
+            this.player = player;
+            this.playerId = player.getUniqueId();
+        }
+    }
+}
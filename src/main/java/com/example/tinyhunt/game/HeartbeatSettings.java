@@ -0,0 +1,83 @@
+package com.example.tinyhunt.game;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import org.bukkit.configuration.ConfigurationSection;
+
+/**
+ * Immutable heartbeat tuning: the distance bands from the closest to the farthest and the beat period of each.
+ */
+public final class HeartbeatSettings {
+
+    private static final List<Integer> DEFAULT_RADII = List.of(8, 16, 32);
+    private static final List<Integer> DEFAULT_BEAT_TICKS = List.of(8, 16, 30);
+
+    private final boolean enabled;
+    private final double[] radiiSquared;
+    private final long[] beatTicks;
+
+    private HeartbeatSettings(boolean enabled, double[] radiiSquared, long[] beatTicks) {
+        this.enabled = enabled;
+        this.radiiSquared = radiiSquared;
+        this.beatTicks = beatTicks;
+    }
+
+    public static HeartbeatSettings load(ConfigurationSection config) {
+        Objects.requireNonNull(config, "config");
+        List<Integer> radii = config.isList("heartbeat.radii")
+                ? config.getIntegerList("heartbeat.radii") : DEFAULT_RADII;
+        List<Integer> beats = config.isList("heartbeat.beat-ticks")
+                ? config.getIntegerList("heartbeat.beat-ticks") : DEFAULT_BEAT_TICKS;
+        int bands = Math.min(radii.size(), beats.size());
+        double[] radiiSquared = new double[bands];
+        long[] beatTicks = new long[bands];
+        for (int i = 0; i < bands; i++) {
+            double radius = Math.max(1, radii.get(i));
+            radiiSquared[i] = radius * radius;
+            beatTicks[i] = Math.max(2, beats.get(i));
+        }
+        // Bands are matched closest first, so keep them ordered even if the config is not.
+        Integer[] order = new Integer[bands];
+        for (int i = 0; i < bands; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(radiiSquared[a], radiiSquared[b]));
+        double[] sortedRadii = new double[bands];
+        long[] sortedBeats = new long[bands];
+        for (int i = 0; i < bands; i++) {
+            sortedRadii[i] = radiiSquared[order[i]];
+            sortedBeats[i] = beatTicks[order[i]];
+        }
+        return new HeartbeatSettings(config.getBoolean("heartbeat.enabled", false) && bands > 0,
+                sortedRadii, sortedBeats);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getBandCount() {
+        return radiiSquared.length;
+    }
+
+    /**
+     * Intensity for the given squared distance: {@link #getBandCount()} for the closest band down to 1 for the
+     * farthest, or 0 when no hunter is within any band.
+     */
+    public int intensity(double distanceSquared) {
+        for (int i = 0; i < radiiSquared.length; i++) {
+            if (distanceSquared <= radiiSquared[i]) {
+                return radiiSquared.length - i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Ticks between beats at the given intensity (1 to {@link #getBandCount()}).
+     */
+    public long beatTicks(int intensity) {
+        return beatTicks[radiiSquared.length - intensity];
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.tinyhunt.game;
+
+/**
+ * Counts the HUD updates actually sent against what a full redraw of every sidebar and boss bar would have sent.
+ */
+public final class HudStats {
+
+    private long updates;
+    private long sent;
+    private long saved;
+
+    void record(int sentUpdates, int fullRedrawUpdates) {
+        updates++;
+        sent += sentUpdates;
+        saved += Math.max(0, fullRedrawUpdates - sentUpdates);
+    }
+
+    public long getUpdates() {
+        return updates;
+    }
+
+    public double getAverageSent() {
+        return updates == 0L ? 0.0D : (double) sent / updates;
+    }
+
+    public double getAverageSaved() {
+        return updates == 0L ? 0.0D : (double) saved / updates;
+    }
+
+    public void reset() {
+        updates = 0L;
+        sent = 0L;
+        saved = 0L;
+    }
+}
@@ -1,30 +1,30 @@
 package com.example.tinyhunt.game;
 
 import com.example.tinyhunt.TinyHuntPlugin;
-import com.example.tinyhunt.model.ArenaDefinition;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.InventoryView;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
 /**
- * Simple chest-based HUD used to visualise lobby status and allow players to join/leave.
+ * Simple chest-based HUD listing every arena so players can join or leave its match.
  */
 public final class JoinMenu {
 
-    private static final LegacyComponentSerializer LEGACY = LegacyComponentSerializer.legacySection();
-    private static final int MENU_SIZE = 9;
-    private static final int STATUS_SLOT = 3;
-    private static final int ACTION_SLOT = 5;
+    private static final int ROW_SIZE = 9;
+    private static final int MAX_MENU_SIZE = 54;
+    private static final int EMPTY_SLOT = 4;
 
     private final TinyHuntPlugin plugin;
     private final GameManager gameManager;
@@ -35,123 +35,127 @@ public final class JoinMenu {
     }
 
     public void open(Player player) {
-        Inventory inventory = Bukkit.createInventory(null, MENU_SIZE, menuTitle());
-        inventory.setItem(STATUS_SLOT, buildStatusItem());
-        inventory.setItem(ACTION_SLOT, buildActionItem(player));
+        List<Match> matches = gameManager.getMatches();
+        int rows = Math.max(1, (matches.size() + ROW_SIZE - 1) / ROW_SIZE);
+        int size = Math.min(MAX_MENU_SIZE, rows * ROW_SIZE);
+        List<String> slots = new ArrayList<>();
+        MenuHolder holder = new MenuHolder(slots);
+        Inventory inventory = Bukkit.createInventory(holder, size, menuTitle());
+        holder.inventory = inventory;
+        if (matches.isEmpty()) {
+            inventory.setItem(EMPTY_SLOT, buildEmptyItem());
+        }
+        for (int slot = 0; slot < matches.size() && slot < size; slot++) {
+            Match match = matches.get(slot);
+            slots.add(match.getArenaName());
+            inventory.setItem(slot, buildArenaItem(player, match));
+        }
         player.openInventory(inventory);
     }
 
     public boolean isMenu(InventoryView view) {
-        return view != null && view.title().equals(menuTitle());
+        return view != null && view.getTopInventory().getHolder() instanceof MenuHolder;
     }
 
-    public boolean isActionSlot(int slot) {
-        return slot == ACTION_SLOT;
+    /**
+     * Returns the arena displayed in the given slot of an open join menu.
+     */
+    public Optional<String> getArenaAt(InventoryView view, int slot) {
+        if (view == null || !(view.getTopInventory().getHolder() instanceof MenuHolder holder)) {
+            return Optional.empty();
+        }
+        if (slot < 0 || slot >= holder.arenaSlots.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(holder.arenaSlots.get(slot));
     }
 
-    public void handleAction(Player player) {
-        if (gameManager.isInQueue(player)) {
-            gameManager.leaveQueue(player);
+    public void handleAction(Player player, String arenaName) {
+        Match current = gameManager.getMatch(player.getUniqueId());
+        if (current != null && current.getArenaName().equals(arenaName) && current.isInQueue(player.getUniqueId())) {
+            current.leave(player);
             return;
         }
-        gameManager.enqueue(player);
+        gameManager.enqueue(player, arenaName);
     }
 
     private Component menuTitle() {
-        return LEGACY.deserialize(plugin.getMessage("messages.menu-title"));
+        return plugin.getMessages().component("messages.menu-title");
     }
 
-    private ItemStack buildStatusItem() {
-        ItemStack itemStack = new ItemStack(Material.COMPASS);
+    private ItemStack buildEmptyItem() {
+        ItemStack itemStack = new ItemStack(Material.BARRIER);
         ItemMeta meta = itemStack.getItemMeta();
         if (meta != null) {
-            meta.displayName(component("messages.menu-status-name"));
-            List<Component> lore = new ArrayList<>();
-            lore.add(component("messages.menu-status-state",
-                    Map.of("state", plugin.getMessage("messages.state." + gameManager.getState().name().toLowerCase()))));
-            lore.add(component("messages.menu-status-queue",
-                    Map.of("queue", gameManager.getQueueSize(), "max", gameManager.getMaxPlayers())));
-            lore.add(component("messages.menu-status-participants",
-                    Map.of("participants", gameManager.getParticipantCount())));
-            String arenaName = gameManager.getActiveArena().map(ArenaDefinition::getName)
-                    .orElse(plugin.getMessage("messages.menu-no-arena"));
-            lore.add(component("messages.menu-status-arena", Map.of("arena", arenaName)));
-            meta.lore(lore);
+            meta.displayName(component("messages.menu-no-arena"));
             itemStack.setItemMeta(meta);
         }
         return itemStack;
     }
 
-    private ItemStack buildActionItem(Player player) {
-        ItemStack itemStack;
-        ItemMeta meta;
-        if (!gameManager.getState().canJoin()) {
-            itemStack = new ItemStack(Material.BARRIER);
-            meta = itemStack.getItemMeta();
-            if (meta != null) {
-                meta.displayName(component("messages.menu-join-locked"));
-                meta.lore(componentList("messages.menu-join-locked-lore"));
-                itemStack.setItemMeta(meta);
-            }
-            return itemStack;
-        }
-        if (gameManager.isInQueue(player)) {
-            itemStack = new ItemStack(Material.REDSTONE);
-            meta = itemStack.getItemMeta();
-            if (meta != null) {
-                meta.displayName(component("messages.menu-join-leave"));
-                meta.lore(componentList("messages.menu-join-leave-lore"));
-                itemStack.setItemMeta(meta);
-            }
-            return itemStack;
+    private ItemStack buildArenaItem(Player player, Match match) {
+        Material material;
+        String actionPath;
+        if (!match.getState().canJoin()) {
+            material = Material.BARRIER;
+            actionPath = "messages.menu-join-locked";
+        } else if (match.isInQueue(player.getUniqueId())) {
+            material = Material.REDSTONE;
+            actionPath = "messages.menu-join-leave";
+        } else if (match.isFull()) {
+            material = Material.BARRIER;
+            actionPath = "messages.menu-join-full";
+        } else {
+            material = Material.EMERALD;
+            actionPath = "messages.menu-join-available";
         }
-        if (gameManager.getQueueSize() >= gameManager.getMaxPlayers()) {
-            itemStack = new ItemStack(Material.BARRIER);
-            meta = itemStack.getItemMeta();
-            if (meta != null) {
-                meta.displayName(component("messages.menu-join-full"));
-                meta.lore(componentList("messages.menu-join-full-lore"));
-                itemStack.setItemMeta(meta);
-            }
-            return itemStack;
-        }
-        itemStack = new ItemStack(Material.EMERALD);
-        meta = itemStack.getItemMeta();
+        ItemStack itemStack = new ItemStack(material);
+        ItemMeta meta = itemStack.getItemMeta();
         if (meta != null) {
-            meta.displayName(component("messages.menu-join-available"));
-            meta.lore(componentList("messages.menu-join-available-lore"));
+            meta.displayName(component("messages.menu-arena-name", Map.of("arena", match.getArenaName())));
+            List<Component> lore = new ArrayList<>();
+            lore.add(component("messages.menu-status-state",
+                    Map.of("state", plugin.getMessage("messages.state." + match.getState().name().toLowerCase()))));
+            lore.add(component("messages.menu-status-queue",
+                    Map.of("queue", match.getQueueSize(), "max", gameManager.getMaxPlayers())));
+            lore.add(component("messages.menu-status-participants",
+                    Map.of("participants", match.getParticipantCount())));
+            lore.add(Component.empty());
+            lore.add(component(actionPath));
+            lore.addAll(componentList(actionPath + "-lore"));
+            meta.lore(lore);
             itemStack.setItemMeta(meta);
         }
         return itemStack;
     }
 
     private Component component(String path) {
-        return component(path, Map.of());
+        return plugin.getMessages().component(path);
     }
 
     private Component component(String path, Map<String, ?> placeholders) {
-        return LEGACY.deserialize(plugin.getMessage(path, placeholders));
+        return plugin.getMessages().component(path, placeholders);
     }
 
     private List<Component> componentList(String path) {
-        return componentList(path, Map.of());
+        return plugin.getMessages().componentLines(path);
     }
 
-    private List<Component> componentList(String path, Map<String, ?> placeholders) {
-        String raw = plugin.getMessage(path, placeholders);
-        String[] split = raw.split("\\n");
-        List<Component> components = new ArrayList<>();
-        if (split.length == 0) {
-            components.add(Component.empty());
-            return components;
+    /**
+     * Marks TinyHunt menu inventories and remembers which arena each slot represents.
+     */
+    private static final class MenuHolder implements InventoryHolder {
+
+        private final List<String> arenaSlots;
+        private Inventory inventory;
+
+        private MenuHolder(List<String> arenaSlots) {
+            this.arenaSlots = Collections.unmodifiableList(arenaSlots);
         }
-        for (String line : split) {
-            if (line.isEmpty()) {
-                components.add(Component.empty());
-            } else {
-                components.add(LEGACY.deserialize(line));
-            }
+
+        @Override
+        public Inventory getInventory() {
+            return inventory;
         }
-        return components;
     }
 }
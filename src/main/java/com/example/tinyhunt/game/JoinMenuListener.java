@@ -1,6 +1,7 @@
 package com.example.tinyhunt.game;
 
 import java.util.Objects;
+import java.util.Optional;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -8,7 +9,7 @@ import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryDragEvent;
 
 /**
- * Handles click events within the TinyHunt join menu.
+ * Handles click events within the TinyHunt join menu and routes them to the selected arena.
  */
 public final class JoinMenuListener implements Listener {
 
@@ -30,11 +31,12 @@ public final class JoinMenuListener implements Listener {
         if (event.getRawSlot() != event.getSlot()) {
             return;
         }
-        if (!gameManager.getJoinMenu().isActionSlot(event.getSlot())) {
+        Optional<String> arenaName = gameManager.getJoinMenu().getArenaAt(event.getView(), event.getSlot());
+        if (arenaName.isEmpty()) {
             return;
         }
         player.closeInventory();
-        gameManager.getJoinMenu().handleAction(player);
+        gameManager.getJoinMenu().handleAction(player, arenaName.get());
     }
 
     @EventHandler
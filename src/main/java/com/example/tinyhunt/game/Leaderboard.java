@@ -0,0 +1,149 @@
+package com.example.tinyhunt.game;
+
+import com.example.tinyhunt.TinyHuntPlugin;
+import com.example.tinyhunt.model.PlayerStats;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.UUID;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+
+/**
+ * Keeps the top players of every {@link LeaderboardMetric} and publishes them as an immutable snapshot.
+ *
+ * <p>Each metric holds a sorted set bounded to the leaderboard size. Scores only grow, so a player who falls
+ * out of a ranking can only come back when their own total changes, which always passes through
+ * {@link #update(UUID, PlayerStats)}; an update therefore costs O(log n) in the ranking size, independent of
+ * how many players have statistics. The snapshot is rebuilt by a periodic task only when a ranking changed.</p>
+ */
+public final class Leaderboard {
+
+    private static final Comparator<Slot> ORDER = Comparator.comparingLong(Slot::score).reversed()
+            .thenComparing(Slot::playerId);
+
+    private final TinyHuntPlugin plugin;
+    private final Map<LeaderboardMetric, Ranking> rankings = new EnumMap<>(LeaderboardMetric.class);
+    private final Map<UUID, String> names = new HashMap<>();
+    private final LobbySidebar sidebar;
+    private int size;
+    private LeaderboardSnapshot snapshot = LeaderboardSnapshot.EMPTY;
+    private boolean dirty;
+    private GameLoop.Task refreshTask;
+
+    Leaderboard(TinyHuntPlugin plugin, GameManager gameManager) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin");
+        this.sidebar = new LobbySidebar(plugin, gameManager);
+    }
+
+    /**
+     * Seeds the rankings from every stored profile in the background and starts the snapshot refresh.
+     */
+    void start(ConfigurationSection config) {
+        size = Math.max(1, Math.min(SidebarRenderer.MAX_LINES, config.getInt("leaderboard.size", 10)));
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            rankings.put(metric, new Ranking(size));
+        }
+        long periodTicks = Math.max(1, config.getInt("leaderboard.refresh-seconds", 5)) * 20L;
+        refreshTask = plugin.getGameLoop().runRepeating(periodTicks, periodTicks, this::refresh);
+        plugin.getStats().scanAll(profiles -> profiles.forEach(this::update));
+    }
+
+    void stop() {
+        if (refreshTask != null) {
+            refreshTask.cancel();
+            refreshTask = null;
+        }
+        sidebar.clear();
+    }
+
+    /**
+     * Feeds a player's new lifetime totals into every ranking.
+     */
+    public void update(UUID playerId, PlayerStats total) {
+        for (Map.Entry<LeaderboardMetric, Ranking> entry : rankings.entrySet()) {
+            if (entry.getValue().offer(playerId, entry.getKey().score(total))) {
+                dirty = true;
+            }
+        }
+    }
+
+    public LeaderboardSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    private void refresh() {
+        if (dirty) {
+            dirty = false;
+            Map<LeaderboardMetric, List<LeaderboardSnapshot.Entry>> published =
+                    new EnumMap<>(LeaderboardMetric.class);
+            for (Map.Entry<LeaderboardMetric, Ranking> entry : rankings.entrySet()) {
+                List<LeaderboardSnapshot.Entry> top = new ArrayList<>(entry.getValue().slots.size());
+                for (Slot slot : entry.getValue().slots) {
+                    if (slot.score() > 0L) {
+                        top.add(new LeaderboardSnapshot.Entry(slot.playerId(), name(slot.playerId()), slot.score()));
+                    }
+                }
+                published.put(entry.getKey(), List.copyOf(top));
+            }
+            snapshot = new LeaderboardSnapshot(Map.copyOf(published));
+        }
+        ConfigurationSection config = plugin.getConfig();
+        if (!config.getBoolean("leaderboard.sidebar", false)) {
+            sidebar.clear();
+            return;
+        }
+        LeaderboardMetric metric = LeaderboardMetric.byKey(config.getString("leaderboard.sidebar-metric", "wins"))
+                .orElse(LeaderboardMetric.WINS);
+        sidebar.update(snapshot, metric);
+    }
+
+    private String name(UUID playerId) {
+        return names.computeIfAbsent(playerId, uuid -> {
+            String name = Bukkit.getOfflinePlayer(uuid).getName();
+            return name != null ? name : uuid.toString().substring(0, 8);
+        });
+    }
+
+    private record Slot(UUID playerId, long score) {
+    }
+
+    /**
+     * Top entries of one metric, bounded to the leaderboard size.
+     */
+    private static final class Ranking {
+
+        private final int capacity;
+        private final TreeSet<Slot> slots = new TreeSet<>(ORDER);
+        private final Map<UUID, Slot> members = new HashMap<>();
+
+        private Ranking(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private boolean offer(UUID playerId, long score) {
+            Slot current = members.get(playerId);
+            if (current != null) {
+                // Totals never shrink; a lower score is a stale read that arrived late.
+                if (current.score() >= score) {
+                    return false;
+                }
+                slots.remove(current);
+            } else if (slots.size() >= capacity && ORDER.compare(new Slot(playerId, score), slots.last()) > 0) {
+                return false;
+            }
+            Slot slot = new Slot(playerId, score);
+            slots.add(slot);
+            members.put(playerId, slot);
+            if (slots.size() > capacity) {
+                members.remove(slots.pollLast().playerId());
+            }
+            return true;
+        }
+    }
+}
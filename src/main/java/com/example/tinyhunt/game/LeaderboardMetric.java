@@ -0,0 +1,50 @@
+package com.example.tinyhunt.game;
+
+import com.example.tinyhunt.model.PlayerStats;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+
+/**
+ * Statistics a leaderboard can rank players by.
+ */
+public enum LeaderboardMetric {
+    WINS(PlayerStats::wins),
+    CATCHES(PlayerStats::catches),
+    GAMES(PlayerStats::games),
+    SURVIVAL(PlayerStats::survivalTicks);
+
+    private final ToLongFunction<PlayerStats> score;
+
+    LeaderboardMetric(ToLongFunction<PlayerStats> score) {
+        this.score = score;
+    }
+
+    public long score(PlayerStats stats) {
+        return score.applyAsLong(stats);
+    }
+
+    public String getKey() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Formats a score for display; survival time is shown as hours and minutes.
+     */
+    public String format(long score) {
+        if (this != SURVIVAL) {
+            return Long.toString(score);
+        }
+        long minutes = score / 20L / 60L;
+        return String.format(Locale.ROOT, "%d:%02d", minutes / 60L, minutes % 60L);
+    }
+
+    public static Optional<LeaderboardMetric> byKey(String key) {
+        for (LeaderboardMetric metric : values()) {
+            if (metric.getKey().equalsIgnoreCase(key)) {
+                return Optional.of(metric);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.tinyhunt.game;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable view of every leaderboard, rebuilt at most once per refresh period and shared by all readers.
+ */
+public record LeaderboardSnapshot(Map<LeaderboardMetric, List<Entry>> rankings) {
+
+    public static final LeaderboardSnapshot EMPTY = new LeaderboardSnapshot(Map.of());
+
+    public List<Entry> top(LeaderboardMetric metric) {
+        return rankings.getOrDefault(metric, List.of());
+    }
+
+    /**
+     * A ranked player with their score in the snapshot's metric.
+     */
+    public record Entry(UUID playerId, String name, long score) {
+    }
+}
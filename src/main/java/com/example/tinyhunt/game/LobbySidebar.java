@@ -0,0 +1,103 @@
+package com.example.tinyhunt.game;
+
+import com.example.tinyhunt.TinyHuntPlugin;
+import com.example.tinyhunt.model.AreaBounds;
+import com.example.tinyhunt.model.ConfiguredArea;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.Scoreboard;
+
+/**
+ * One shared leaderboard sidebar shown to players standing in the TinyHunt lobby or queued for a match.
+ *
+ * <p>Players only receive it while they are on the main scoreboard, so boards from matches or other plugins
+ * are left alone, and get the main scoreboard back as soon as they walk out of the lobby. Lines are re-rendered
+ * only when the snapshot or metric changes.</p>
+ */
+final class LobbySidebar {
+
+    private final TinyHuntPlugin plugin;
+    private final GameManager gameManager;
+    private final Set<UUID> viewers = new HashSet<>();
+    private SidebarRenderer renderer;
+    private LeaderboardSnapshot renderedSnapshot;
+    private LeaderboardMetric renderedMetric;
+
+    LobbySidebar(TinyHuntPlugin plugin, GameManager gameManager) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin");
+        this.gameManager = Objects.requireNonNull(gameManager, "gameManager");
+    }
+
+    void update(LeaderboardSnapshot snapshot, LeaderboardMetric metric) {
+        if (renderer == null) {
+            renderer = new SidebarRenderer(Bukkit.getScoreboardManager().getNewScoreboard(), "TinyHunt");
+        }
+        if (snapshot != renderedSnapshot || metric != renderedMetric) {
+            render(snapshot, metric);
+        }
+        Scoreboard main = Bukkit.getScoreboardManager().getMainScoreboard();
+        Scoreboard lobby = renderer.getScoreboard();
+        ConfiguredArea lobbyArea = gameManager.getLobbyArea();
+        AreaBounds lobbyBounds = lobbyArea != null && lobbyArea.isComplete() ? lobbyArea.getBounds() : null;
+        Set<UUID> online = new HashSet<>();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            UUID uuid = player.getUniqueId();
+            online.add(uuid);
+            Match match = gameManager.getMatch(uuid);
+            boolean eligible = match != null
+                    ? match.getState() != GameState.RUNNING
+                    : lobbyBounds != null && lobbyBounds.contains(player.getLocation());
+            Scoreboard current = player.getScoreboard();
+            if (eligible && current == main) {
+                player.setScoreboard(lobby);
+                viewers.add(uuid);
+            } else if (!eligible && current == lobby) {
+                player.setScoreboard(main);
+                viewers.remove(uuid);
+            } else if (current != lobby) {
+                viewers.remove(uuid);
+            }
+        }
+        viewers.retainAll(online);
+    }
+
+    void clear() {
+        if (renderer == null) {
+            return;
+        }
+        Scoreboard main = Bukkit.getScoreboardManager().getMainScoreboard();
+        for (UUID uuid : viewers) {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null && player.getScoreboard() == renderer.getScoreboard()) {
+                player.setScoreboard(main);
+            }
+        }
+        viewers.clear();
+    }
+
+    private void render(LeaderboardSnapshot snapshot, LeaderboardMetric metric) {
+        String metricName = plugin.getMessage("messages.top-metric." + metric.getKey());
+        String title = ChatColor.stripColor(plugin.getMessages().template("hud.leaderboard-title", "Top %metric%")
+                .render(Map.of("metric", metricName)));
+        List<String> lines = new ArrayList<>();
+        int rank = 1;
+        for (LeaderboardSnapshot.Entry entry : snapshot.top(metric)) {
+            lines.add(plugin.getMessage("hud.leaderboard-line", Map.of(
+                    "rank", rank++, "player", entry.name(), "score", metric.format(entry.score()))));
+        }
+        if (lines.isEmpty()) {
+            lines.add(plugin.getMessage("hud.leaderboard-empty"));
+        }
+        renderer.render(title, lines);
+        renderedSnapshot = snapshot;
+        renderedMetric = metric;
+    }
+}
@@ -0,0 +1,930 @@
+package com.example.tinyhunt.game;
+
+import com.example.tinyhunt.TinyHuntPlugin;
+import com.example.tinyhunt.model.ArenaDefinition;
+import com.example.tinyhunt.model.AreaBounds;
+import com.example.tinyhunt.model.PlayerRole;
+import com.example.tinyhunt.storage.ReplaySession;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+
+/**
+ * A single TinyHunt match bound to one arena, with its own queue, roles, timers and HUD.
+ */
+public final class Match {
+
+    private static final int GRID_CELL_SIZE = 16;
+
+    private final TinyHuntPlugin plugin;
+    private final GameManager gameManager;
+    private final String arenaName;
+
+    private final LinkedHashSet<UUID> queue = new LinkedHashSet<>();
+    private final MatchRoster roster = new MatchRoster();
+    private final Map<UUID, GameLoop.Task> pendingConversions = new HashMap<>();
+    private final Map<UUID, GameMode> storedModes = new HashMap<>();
+
+    private final MatchHud matchHud;
+    private final HeartbeatEngine heartbeat;
+    private final SpawnPlanner spawnPlanner;
+    private final MatchStats stats = new MatchStats();
+    private final Location replayScratch = new Location(null, 0.0D, 0.0D, 0.0D);
+    private ParticipantGrid grid;
+
+    private GameState state = GameState.WAITING;
+    private GameLoop.Task countdownTask;
+    private int countdownSecondsRemaining;
+    private GameLoop.Task hunterSelectionTask;
+    private GameLoop.Task gameTimerTask;
+    private GameLoop.Task hudUpdateTask;
+    private GameLoop.Task heartbeatTask;
+    private GameLoop.Task replaySampleTask;
+    private ReplaySession replay;
+    private GameLoop.Task suddenDeathTask;
+    private GameLoop.Task revealTask;
+    private long matchEndTick;
+    private boolean suddenDeathTriggered;
+    private long nextRevealTick;
+
+    Match(TinyHuntPlugin plugin, GameManager gameManager, String arenaName) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin");
+        this.gameManager = Objects.requireNonNull(gameManager, "gameManager");
+        this.arenaName = Objects.requireNonNull(arenaName, "arenaName");
+        this.matchHud = new MatchHud(gameManager.getHudStats());
+        this.heartbeat = new HeartbeatEngine(plugin.getMessages(), plugin.getCooldownManager()::hasActive);
+        this.spawnPlanner = new SpawnPlanner(plugin);
+    }
+
+    public String getArenaName() {
+        return arenaName;
+    }
+
+    public Optional<ArenaDefinition> getArena() {
+        return gameManager.getArena(arenaName);
+    }
+
+    /**
+     * Returns the compiled arena bounds without allocating, or {@code null} when the arena is incomplete.
+     */
+    public AreaBounds getArenaBounds() {
+        ArenaDefinition arena = gameManager.lookupArena(arenaName);
+        return arena != null ? arena.getArea().getBounds() : null;
+    }
+
+    public GameState getState() {
+        return state;
+    }
+
+    public boolean isInQueue(UUID playerId) {
+        return queue.contains(playerId);
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public boolean isParticipant(UUID playerId) {
+        return roster.contains(playerId);
+    }
+
+    public int getParticipantCount() {
+        return roster.size();
+    }
+
+    public Collection<UUID> getParticipants() {
+        return roster.getParticipants();
+    }
+
+    /**
+     * Updates the participant's cell in the proximity index; called for block-level movement and teleports.
+     */
+    public void trackPosition(Player player, Location location) {
+        if (grid != null && roster.contains(player.getUniqueId())) {
+            grid.update(player, location.getX(), location.getY(), location.getZ());
+        }
+    }
+
+    /**
+     * Closest participant with the given role (any role when {@code null}), other than {@code exclude}.
+     */
+    public Optional<Player> nearest(Location from, PlayerRole role, UUID exclude) {
+        if (grid == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(grid.nearest(from.getX(), from.getY(), from.getZ(),
+                uuid -> !uuid.equals(exclude) && (role == null || roster.getRole(uuid) == role)));
+    }
+
+    /**
+     * Participants with the given role (any role when {@code null}) within {@code radius} blocks of the centre.
+     */
+    public List<Player> withinRadius(Location center, double radius, PlayerRole role) {
+        if (grid == null) {
+            return List.of();
+        }
+        return grid.withinRadius(center.getX(), center.getY(), center.getZ(), radius,
+                uuid -> role == null || roster.getRole(uuid) == role);
+    }
+
+    public boolean isHunter(UUID playerId) {
+        return roster.getRole(playerId) == PlayerRole.HUNTER;
+    }
+
+    public boolean isFull() {
+        return queue.size() >= settings().maxPlayers();
+    }
+
+    public boolean isIdle() {
+        return state == GameState.WAITING && queue.isEmpty() && roster.isEmpty();
+    }
+
+    public void enqueue(Player player) {
+        if (!state.canJoin()) {
+            player.sendMessage(plugin.getMessage("messages.cannot-join"));
+            return;
+        }
+        if (queue.contains(player.getUniqueId())) {
+            player.sendMessage(plugin.getMessage("messages.already-queued"));
+            return;
+        }
+        if (queue.size() >= settings().maxPlayers()) {
+            player.sendMessage(plugin.getMessage("messages.queue-full"));
+            return;
+        }
+        queue.add(player.getUniqueId());
+        gameManager.track(player.getUniqueId(), this);
+        player.sendMessage(plugin.getMessage("messages.joined-queue",
+                Map.of("position", queue.size(), "arena", arenaName)));
+        checkAutoStart();
+    }
+
+    /**
+     * Queues a whole party, leader first, or none of it when it does not fit in the remaining slots.
+     */
+    public void enqueueParty(List<Player> party) {
+        Player leader = party.get(0);
+        if (!state.canJoin()) {
+            leader.sendMessage(plugin.getMessage("messages.cannot-join"));
+            return;
+        }
+        if (queue.contains(leader.getUniqueId())) {
+            leader.sendMessage(plugin.getMessage("messages.already-queued"));
+            return;
+        }
+        int free = settings().maxPlayers() - queue.size();
+        if (party.size() > free) {
+            leader.sendMessage(plugin.getMessage("messages.party-queue-full",
+                    Map.of("size", party.size(), "free", free, "arena", arenaName)));
+            return;
+        }
+        for (Player player : party) {
+            queue.add(player.getUniqueId());
+            gameManager.track(player.getUniqueId(), this);
+            player.sendMessage(plugin.getMessage("messages.joined-queue",
+                    Map.of("position", queue.size(), "arena", arenaName)));
+        }
+        checkAutoStart();
+    }
+
+    /**
+     * Whether matchmaking may hand this arena a lobby: it is idle and fully configured.
+     */
+    boolean canHostLobby() {
+        return isIdle() && validateConfiguration();
+    }
+
+    /**
+     * Queues a lobby formed by matchmaking as a whole and starts a countdown of the given length.
+     */
+    boolean admit(List<Player> lobby, int countdownSeconds) {
+        if (!state.canJoin() || queue.size() + lobby.size() > settings().maxPlayers()) {
+            return false;
+        }
+        for (Player player : lobby) {
+            queue.add(player.getUniqueId());
+            gameManager.track(player.getUniqueId(), this);
+            player.sendMessage(plugin.getMessage("messages.matchmaking-found",
+                    Map.of("arena", arenaName, "players", lobby.size())));
+        }
+        startCountdown(countdownSeconds);
+        return true;
+    }
+
+    public void leave(Player player) {
+        if (queue.remove(player.getUniqueId())) {
+            gameManager.untrack(player.getUniqueId(), this);
+            player.sendMessage(plugin.getMessage("messages.left-queue"));
+            if (state == GameState.COUNTDOWN && queue.size() < settings().minPlayers()) {
+                cancelCountdown();
+                broadcastToQueue(plugin.getMessage("messages.countdown-cancelled"));
+            }
+            return;
+        }
+        if (isParticipant(player.getUniqueId())) {
+            eliminatePlayer(player, false);
+        } else {
+            player.sendMessage(plugin.getMessage("messages.not-in-queue"));
+        }
+    }
+
+    public void checkAutoStart() {
+        if (state != GameState.WAITING) {
+            return;
+        }
+        if (queue.size() < settings().minPlayers()) {
+            return;
+        }
+        startCountdown();
+    }
+
+    public void startCountdown() {
+        startCountdown(settings().autoStartSeconds());
+    }
+
+    private void startCountdown(int seconds) {
+        if (state == GameState.COUNTDOWN || state == GameState.RUNNING) {
+            return;
+        }
+        if (queue.size() < settings().minPlayers()) {
+            return;
+        }
+        state = GameState.COUNTDOWN;
+        countdownSecondsRemaining = seconds;
+        broadcastToQueue(plugin.getMessage("messages.countdown-start",
+                Map.of("seconds", countdownSecondsRemaining)));
+        countdownTask = loop().runRepeating(20L, 20L, this::tickCountdown);
+        prepareSpawns();
+        spawnPlanner.prewarm();
+    }
+
+    private void tickCountdown() {
+        if (countdownSecondsRemaining <= 0) {
+            beginMatch();
+            return;
+        }
+        if (queue.size() < settings().minPlayers()) {
+            broadcastToQueue(plugin.getMessage("messages.countdown-cancelled"));
+            cancelCountdown();
+            return;
+        }
+        if (countdownSecondsRemaining <= 10 || countdownSecondsRemaining % 30 == 0) {
+            broadcastToQueue(plugin.getMessage("messages.countdown-tick",
+                    Map.of("seconds", countdownSecondsRemaining)));
+        }
+        countdownSecondsRemaining--;
+    }
+
+    public boolean forceStart() {
+        if (state == GameState.RUNNING) {
+            return false;
+        }
+        if (queue.size() < settings().minPlayers()) {
+            broadcastToQueue(plugin.getMessage("messages.not-enough-players"));
+            return false;
+        }
+        beginMatch();
+        return true;
+    }
+
+    private void beginMatch() {
+        stopCountdownTimer();
+        if (!validateConfiguration()) {
+            broadcastToQueue(plugin.getMessage("messages.configuration-missing"));
+            state = GameState.WAITING;
+            spawnPlanner.release();
+            return;
+        }
+        MatchSettings settings = settings();
+        state = GameState.RUNNING;
+        roster.clear();
+        for (UUID uuid : queue) {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null && player.isOnline()) {
+                roster.add(player);
+            } else {
+                gameManager.untrack(uuid, this);
+            }
+        }
+        queue.clear();
+        if (roster.size() < settings.minPlayers()) {
+            queue.addAll(roster.getParticipants());
+            roster.clear();
+            broadcastToQueue(plugin.getMessage("messages.not-enough-players"));
+            state = GameState.WAITING;
+            spawnPlanner.release();
+            return;
+        }
+        // A forced start skips the countdown; spawns still unvalidated fall back to the configured ones.
+        prepareSpawns();
+        AreaBounds bounds = getArenaBounds();
+        grid = bounds != null ? new ParticipantGrid(bounds, GRID_CELL_SIZE) : null;
+        startReplay();
+        stats.start(roster.getParticipants(), loop().getCurrentTick());
+        List<Location> spawns = spawnPlanner.plan(roster.size());
+        int spawnIndex = 0;
+        for (UUID uuid : roster.getParticipants()) {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null) {
+                applyRunnerState(player);
+                teleportToArena(player, spawnIndex < spawns.size() ? spawns.get(spawnIndex++) : null);
+                player.sendMessage(plugin.getMessage("messages.game-start-runner"));
+            }
+        }
+        broadcastToParticipants(plugin.getMessage("messages.game-start"));
+        suddenDeathTriggered = false;
+        nextRevealTick = 0L;
+        matchEndTick = loop().getCurrentTick() + settings.gameDurationSeconds() * 20L;
+        scheduleHunterSelection();
+        scheduleGameTimer();
+        scheduleSuddenDeath();
+        matchHud.start(roster.getParticipants());
+        startHudUpdates();
+        startHeartbeat();
+    }
+
+    private void scheduleHunterSelection() {
+        cancelHunterSelection();
+        hunterSelectionTask = loop().runLater(settings().hunterDelaySeconds() * 20L, this::selectRandomHunter);
+    }
+
+    private void scheduleGameTimer() {
+        cancelGameTimer();
+        gameTimerTask = loop().runLater(settings().gameDurationSeconds() * 20L,
+                () -> concludeGame(GameEndReason.RUNNERS_SURVIVED));
+    }
+
+    private void scheduleSuddenDeath() {
+        cancelSuddenDeath();
+        MatchSettings settings = settings();
+        if (!settings.suddenDeathEnabled()) {
+            return;
+        }
+        long delaySeconds = Math.max(0L, settings.gameDurationSeconds() - settings.suddenDeathStartSeconds());
+        suddenDeathTask = loop().runLater(delaySeconds * 20L, this::triggerSuddenDeath);
+    }
+
+    public void selectRandomHunter() {
+        List<Player> runners = new ArrayList<>(roster.getRemainingRunners());
+        if (runners.isEmpty()) {
+            concludeGame(GameEndReason.CONFIGURATION_ERROR);
+            return;
+        }
+        Player chosen = runners.get(ThreadLocalRandom.current().nextInt(runners.size()));
+        promoteToHunter(chosen, true);
+        broadcastToParticipants(plugin.getMessage("messages.hunter-selected",
+                Map.of("player", chosen.getName())));
+    }
+
+    public void handleHunterHit(Player hunter, Player target) {
+        if (state != GameState.RUNNING) {
+            return;
+        }
+        if (!isHunter(hunter.getUniqueId())) {
+            return;
+        }
+        if (!isParticipant(target.getUniqueId())) {
+            return;
+        }
+        if (isHunter(target.getUniqueId()) || isConverting(target)) {
+            return;
+        }
+        if (replay != null) {
+            replay.recordHit(loop().getCurrentTick(), hunter.getUniqueId(), target.getUniqueId());
+        }
+        stats.recordCatch(hunter.getUniqueId());
+        beginRunnerConversion(target);
+    }
+
+    public void eliminatePlayer(Player player, boolean silent) {
+        cancelConversion(player.getUniqueId());
+        removeFromRoster(player.getUniqueId());
+        gameManager.untrack(player.getUniqueId(), this);
+        resetPlayerState(player);
+        gameManager.teleportToLobby(player);
+        if (!silent) {
+            broadcastToParticipants(plugin.getMessage("messages.player-left",
+                    Map.of("player", player.getName())));
+        }
+        if (state == GameState.RUNNING && !roster.hasRemainingRunners()) {
+            concludeGame(GameEndReason.HUNTERS_ELIMINATED_ALL);
+        }
+    }
+
+    public void handlePlayerQuit(Player player) {
+        UUID uuid = player.getUniqueId();
+        gameManager.untrack(uuid, this);
+        boolean removedFromQueue = queue.remove(uuid);
+        if (removedFromQueue && state == GameState.COUNTDOWN && queue.size() < settings().minPlayers()) {
+            cancelCountdown();
+            broadcastToQueue(plugin.getMessage("messages.countdown-cancelled"));
+        }
+        if (removeFromRoster(uuid)) {
+            cancelConversion(uuid);
+            if (state == GameState.RUNNING && !roster.hasRemainingRunners()) {
+                concludeGame(GameEndReason.HUNTERS_ELIMINATED_ALL);
+            }
+        }
+    }
+
+    public void concludeGame(GameEndReason reason) {
+        if (state != GameState.RUNNING && state != GameState.COUNTDOWN) {
+            return;
+        }
+        boolean played = state == GameState.RUNNING;
+        cancelCountdown();
+        cancelHunterSelection();
+        cancelGameTimer();
+        cancelHudUpdates();
+        cancelHeartbeat();
+        cancelSuddenDeath();
+        cancelConversions();
+        stopReplay(reason);
+        matchHud.stop();
+        spawnPlanner.release();
+        suddenDeathTriggered = false;
+        nextRevealTick = 0L;
+        state = GameState.ENDING;
+        String message = switch (reason) {
+            case HUNTERS_ELIMINATED_ALL -> plugin.getMessage("messages.hunters-win");
+            case RUNNERS_SURVIVED -> plugin.getMessage("messages.runners-win");
+            case MANUAL_STOP -> plugin.getMessage("messages.manual-stop");
+            case CONFIGURATION_ERROR -> plugin.getMessage("messages.configuration-missing");
+        };
+        broadcastToParticipants(message);
+        if (played) {
+            recordStats(reason);
+        }
+        for (UUID uuid : new ArrayList<>(roster.getParticipants())) {
+            gameManager.untrack(uuid, this);
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null) {
+                resetPlayerState(player);
+                gameManager.teleportToLobby(player);
+            }
+        }
+        roster.clear();
+        grid = null;
+        state = GameState.WAITING;
+    }
+
+    public boolean stopManually() {
+        if (state == GameState.WAITING) {
+            return false;
+        }
+        if (state == GameState.COUNTDOWN) {
+            cancelCountdown();
+            broadcastToQueue(plugin.getMessage("messages.countdown-cancelled"));
+            return true;
+        }
+        concludeGame(GameEndReason.MANUAL_STOP);
+        return true;
+    }
+
+    /**
+     * Ends any running game and releases every queued player, used when the arena goes away.
+     */
+    void shutdown() {
+        concludeGame(GameEndReason.CONFIGURATION_ERROR);
+        cancelAllTasks();
+        for (UUID uuid : queue) {
+            gameManager.untrack(uuid, this);
+        }
+        queue.clear();
+    }
+
+    private boolean removeFromRoster(UUID uuid) {
+        if (grid != null) {
+            grid.remove(uuid);
+        }
+        if (replay != null && roster.contains(uuid)) {
+            replay.recordLeave(loop().getCurrentTick(), uuid);
+        }
+        stats.stopSurvival(uuid, loop().getCurrentTick());
+        return roster.remove(uuid);
+    }
+
+    private void changeRole(UUID uuid, PlayerRole role) {
+        roster.setRole(uuid, role);
+        if (role == PlayerRole.CONVERTING) {
+            stats.recordConversion(uuid, loop().getCurrentTick());
+        } else if (role != PlayerRole.RUNNER) {
+            stats.stopSurvival(uuid, loop().getCurrentTick());
+        }
+        if (replay != null) {
+            replay.recordRole(loop().getCurrentTick(), uuid, role);
+        }
+    }
+
+    /**
+     * Drops the validated spawn points after the arena was edited or reloaded. They are validated again on
+     * next use, or right away when a countdown or match needs them.
+     */
+    public void invalidateSpawns() {
+        spawnPlanner.invalidate();
+        if (state == GameState.COUNTDOWN || state == GameState.RUNNING) {
+            prepareSpawns();
+        }
+    }
+
+    private void prepareSpawns() {
+        if (!spawnPlanner.isPrepared()) {
+            getArena().ifPresent(spawnPlanner::prepare);
+        }
+    }
+
+    private void teleportToArena(Player player) {
+        teleportToArena(player, spawnPlanner.pick());
+    }
+
+    private void teleportToArena(Player player, Location planned) {
+        Location target = planned;
+        if (target == null) {
+            ArenaDefinition arena = getArena()
+                    .orElseThrow(() -> new IllegalStateException("Arena " + arenaName + " not configured"));
+            target = pickArenaSpawn(arena).orElseGet(() -> arena.getArea().getRandomLocation());
+        }
+        Location destination = target;
+        player.teleportAsync(destination).thenAccept(success -> {
+            if (success) {
+                trackPosition(player, destination);
+            }
+        });
+    }
+
+    private Optional<Location> pickArenaSpawn(ArenaDefinition arena) {
+        List<Location> spawns = arena.getSpawns();
+        if (spawns.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(spawns.get(ThreadLocalRandom.current().nextInt(spawns.size())));
+    }
+
+    private void applyRunnerState(Player player) {
+        restoreGameMode(player);
+        gameManager.applyScale(player, settings().runnerScale());
+        player.setHealth(Math.min(player.getHealth(), player.getMaxHealth()));
+        player.setFoodLevel(20);
+    }
+
+    private void promoteToHunter(Player player, boolean announce) {
+        changeRole(player.getUniqueId(), PlayerRole.HUNTER);
+        restoreGameMode(player);
+        gameManager.applyScale(player, settings().hunterScale());
+        teleportToArena(player);
+        applyHunterBuffs(player);
+        if (announce) {
+            player.sendMessage(plugin.getMessage("messages.you-are-hunter"));
+        } else {
+            player.sendMessage(plugin.getMessage("messages.now-hunter"));
+        }
+    }
+
+    private void resetPlayerState(Player player) {
+        gameManager.applyScale(player, 1.0F);
+        restoreGameMode(player);
+        player.setNoDamageTicks(0);
+        for (PotionEffect effect : new ArrayList<>(player.getActivePotionEffects())) {
+            player.removePotionEffect(effect.getType());
+        }
+    }
+
+    private boolean validateConfiguration() {
+        if (gameManager.getLobbyArea() == null || !gameManager.getLobbyArea().isComplete()) {
+            return false;
+        }
+        return getArena()
+                .filter(arena -> arena.getArea().isComplete() && !arena.getSpawns().isEmpty())
+                .isPresent();
+    }
+
+    public void cancelAllTasks() {
+        cancelCountdown();
+        cancelHunterSelection();
+        cancelGameTimer();
+        cancelHudUpdates();
+        cancelHeartbeat();
+        cancelSuddenDeath();
+        cancelConversions();
+    }
+
+    private void cancelCountdown() {
+        stopCountdownTimer();
+        if (state == GameState.COUNTDOWN) {
+            state = GameState.WAITING;
+            spawnPlanner.release();
+        }
+    }
+
+    private void stopCountdownTimer() {
+        if (countdownTask != null) {
+            countdownTask.cancel();
+            countdownTask = null;
+        }
+    }
+
+    private void cancelHunterSelection() {
+        if (hunterSelectionTask != null) {
+            hunterSelectionTask.cancel();
+            hunterSelectionTask = null;
+        }
+    }
+
+    private void cancelGameTimer() {
+        if (gameTimerTask != null) {
+            gameTimerTask.cancel();
+            gameTimerTask = null;
+        }
+    }
+
+    private void cancelSuddenDeath() {
+        if (suddenDeathTask != null) {
+            suddenDeathTask.cancel();
+            suddenDeathTask = null;
+        }
+        if (revealTask != null) {
+            revealTask.cancel();
+            revealTask = null;
+        }
+    }
+
+    private void broadcastToQueue(String message) {
+        broadcast(queue, message);
+    }
+
+    private void broadcastToParticipants(String message) {
+        broadcast(roster.getParticipants(), message);
+    }
+
+    private void broadcast(Collection<UUID> recipients, String message) {
+        for (UUID uuid : recipients) {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null && message != null) {
+                player.sendMessage(message);
+            }
+        }
+    }
+
+    private boolean isConverting(Player player) {
+        return roster.getRole(player.getUniqueId()) == PlayerRole.CONVERTING;
+    }
+
+    private void beginRunnerConversion(Player player) {
+        UUID uuid = player.getUniqueId();
+        int conversionDelaySeconds = settings().conversionDelaySeconds();
+        changeRole(uuid, PlayerRole.CONVERTING);
+        storedModes.put(uuid, player.getGameMode());
+        player.setGameMode(GameMode.SPECTATOR);
+        player.sendMessage(plugin.getMessage("messages.runner-respawn-start",
+                Map.of("seconds", conversionDelaySeconds)));
+        broadcastToParticipants(plugin.getMessage("messages.runner-respawn-broadcast",
+                Map.of("player", player.getName(), "seconds", conversionDelaySeconds)));
+        pendingConversions.put(uuid, loop().runLater(conversionDelaySeconds * 20L,
+                () -> finishRunnerConversion(uuid)));
+    }
+
+    private void finishRunnerConversion(UUID uuid) {
+        pendingConversions.remove(uuid);
+        if (state != GameState.RUNNING) {
+            return;
+        }
+        Player player = Bukkit.getPlayer(uuid);
+        if (player == null) {
+            return;
+        }
+        MatchSettings settings = settings();
+        changeRole(uuid, PlayerRole.HUNTER);
+        restoreGameMode(player);
+        gameManager.applyScale(player, settings.hunterScale());
+        teleportToArena(player);
+        if (settings.conversionInvulnerabilitySeconds() > 0) {
+            player.setNoDamageTicks(settings.conversionInvulnerabilitySeconds() * 20);
+        }
+        applyHunterBuffs(player);
+        player.sendMessage(plugin.getMessage("messages.runner-respawn-complete"));
+        broadcastToParticipants(plugin.getMessage("messages.runner-converted", Map.of("player", player.getName())));
+        if (!roster.hasRemainingRunners()) {
+            concludeGame(GameEndReason.HUNTERS_ELIMINATED_ALL);
+        }
+    }
+
+    private void cancelConversion(UUID uuid) {
+        GameLoop.Task task = pendingConversions.remove(uuid);
+        if (task != null) {
+            task.cancel();
+        }
+        storedModes.remove(uuid);
+    }
+
+    private void cancelConversions() {
+        for (GameLoop.Task task : new ArrayList<>(pendingConversions.values())) {
+            task.cancel();
+        }
+        pendingConversions.clear();
+        storedModes.clear();
+    }
+
+    private void startHudUpdates() {
+        cancelHudUpdates();
+        hudUpdateTask = loop().runRepeating(1L, 20L, this::updateHud);
+    }
+
+    private void cancelHudUpdates() {
+        if (hudUpdateTask != null) {
+            hudUpdateTask.cancel();
+            hudUpdateTask = null;
+        }
+    }
+
+    private void startHeartbeat() {
+        cancelHeartbeat();
+        heartbeatTask = loop().runRepeating(1L, 1L, this::tickHeartbeat);
+    }
+
+    private void cancelHeartbeat() {
+        if (heartbeatTask != null) {
+            heartbeatTask.cancel();
+            heartbeatTask = null;
+        }
+        heartbeat.clear();
+    }
+
+    private void tickHeartbeat() {
+        HeartbeatSettings settings = gameManager.getHeartbeatSettings();
+        if (state != GameState.RUNNING || !settings.isEnabled()) {
+            heartbeat.clear();
+            return;
+        }
+        heartbeat.tick(loop().getCurrentTick(), settings, roster.getPlayers(PlayerRole.HUNTER),
+                roster.getRemainingRunners());
+    }
+
+    private void recordStats(GameEndReason reason) {
+        Set<UUID> winners = new HashSet<>();
+        PlayerRole winningRole = switch (reason) {
+            case HUNTERS_ELIMINATED_ALL -> PlayerRole.HUNTER;
+            case RUNNERS_SURVIVED -> PlayerRole.RUNNER;
+            case MANUAL_STOP, CONFIGURATION_ERROR -> null;
+        };
+        if (winningRole != null) {
+            for (Player player : roster.getPlayers(winningRole)) {
+                winners.add(player.getUniqueId());
+            }
+        }
+        gameManager.recordMatchStats(stats.finish(loop().getCurrentTick(), winners));
+    }
+
+    private void startReplay() {
+        MatchSettings settings = settings();
+        if (!settings.replaysEnabled()) {
+            return;
+        }
+        replay = plugin.getReplays().open(arenaName);
+        long now = loop().getCurrentTick();
+        for (UUID uuid : roster.getParticipants()) {
+            replay.recordJoin(now, uuid, roster.getRole(uuid));
+        }
+        replaySampleTask = loop().runRepeating(settings.replaySampleTicks(), settings.replaySampleTicks(),
+                this::sampleReplayPositions);
+    }
+
+    private void stopReplay(GameEndReason reason) {
+        if (replaySampleTask != null) {
+            replaySampleTask.cancel();
+            replaySampleTask = null;
+        }
+        if (replay != null) {
+            replay.finish(reason.ordinal());
+            replay = null;
+        }
+    }
+
+    private void sampleReplayPositions() {
+        if (replay == null) {
+            return;
+        }
+        long now = loop().getCurrentTick();
+        for (UUID uuid : roster.getParticipants()) {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null) {
+                player.getLocation(replayScratch);
+                replay.recordPosition(now, uuid, replayScratch.getX(), replayScratch.getY(), replayScratch.getZ());
+            }
+        }
+    }
+
+    private void updateHud() {
+        if (state != GameState.RUNNING) {
+            return;
+        }
+        long now = loop().getCurrentTick();
+        long timeRemainingSeconds = Math.max(0L, (matchEndTick - now + 19L) / 20L);
+        long revealSeconds = -1L;
+        if (suddenDeathTriggered) {
+            revealSeconds = Math.max(0L, (nextRevealTick - now + 19L) / 20L);
+        }
+        matchHud.update(roster.getParticipants(), createHudSnapshot(timeRemainingSeconds, revealSeconds));
+    }
+
+    private MatchHud.HudSnapshot createHudSnapshot(long timeRemainingSeconds, long nextRevealSeconds) {
+        int gameDurationSeconds = settings().gameDurationSeconds();
+        String formattedTime = formatDuration(timeRemainingSeconds);
+        String bossBarTitle = ChatColor.stripColor(plugin.getMessages()
+                .template("hud.bossbar-title", "&6Tempo: &e%time%")
+                .render(Map.of("time", formattedTime)));
+        String scoreboardTitle = ChatColor.stripColor(getHudString("hud.scoreboard-title", "TinyHunt"));
+        String extraLine = suddenDeathTriggered
+                ? ChatColor.stripColor(getHudString("hud.extra-sudden-death", "Sudden death!"))
+                : ChatColor.stripColor(getHudString("hud.extra-match", ""));
+        double progress = gameDurationSeconds <= 0 ? 0.0D
+                : Math.max(0.0D, Math.min(1.0D, (double) timeRemainingSeconds / gameDurationSeconds));
+        return new MatchHud.HudSnapshot(bossBarTitle, scoreboardTitle, progress, formattedTime, roster.getRunnerCount(),
+                roster.getHunterCount(), nextRevealSeconds, extraLine);
+    }
+
+    private void triggerSuddenDeath() {
+        suddenDeathTask = null;
+        if (state != GameState.RUNNING || suddenDeathTriggered) {
+            return;
+        }
+        suddenDeathTriggered = true;
+        broadcastToParticipants(plugin.getMessage("messages.sudden-death-start"));
+        for (Player hunter : roster.getPlayers(PlayerRole.HUNTER)) {
+            applyHunterBuffs(hunter);
+        }
+        performSuddenDeathReveal();
+        long intervalTicks = settings().suddenDeathRevealIntervalSeconds() * 20L;
+        revealTask = loop().runRepeating(intervalTicks, intervalTicks, this::performSuddenDeathReveal);
+    }
+
+    private void performSuddenDeathReveal() {
+        MatchSettings settings = settings();
+        nextRevealTick = loop().getCurrentTick() + settings.suddenDeathRevealIntervalSeconds() * 20L;
+        if (replay != null) {
+            replay.recordReveal(loop().getCurrentTick());
+        }
+        for (Player runner : roster.getRemainingRunners()) {
+            runner.addPotionEffect(new PotionEffect(PotionEffectType.GLOWING,
+                    settings.suddenDeathRevealDurationSeconds() * 20, 0, true, false, true));
+        }
+        if (roster.hasRemainingRunners()) {
+            broadcastToParticipants(plugin.getMessage("messages.sudden-death-reveal",
+                    Map.of("seconds", settings.suddenDeathRevealDurationSeconds())));
+        }
+    }
+
+    private void applyHunterBuffs(Player player) {
+        MatchSettings settings = settings();
+        if (!suddenDeathTriggered || settings.suddenDeathHunterSpeedAmplifier() <= 0) {
+            return;
+        }
+        player.addPotionEffect(new PotionEffect(PotionEffectType.SPEED,
+                settings.suddenDeathRevealIntervalSeconds() * 20,
+                settings.suddenDeathHunterSpeedAmplifier() - 1, true, false, true));
+    }
+
+    private void restoreGameMode(Player player) {
+        GameMode previous = storedModes.remove(player.getUniqueId());
+        if (previous != null) {
+            player.setGameMode(previous);
+        } else if (player.getGameMode() == GameMode.SPECTATOR) {
+            player.setGameMode(GameMode.SURVIVAL);
+        }
+    }
+
+    private GameLoop loop() {
+        return plugin.getGameLoop();
+    }
+
+    private MatchSettings settings() {
+        return gameManager.getSettings();
+    }
+
+    private String getHudString(String path, String def) {
+        return plugin.getMessages().template(path, def).render();
+    }
+
+    private String formatDuration(long seconds) {
+        long clamped = Math.max(0, seconds);
+        long minutes = clamped / 60;
+        long remaining = clamped % 60;
+        return String.format(Locale.ROOT, "%02d:%02d", minutes, remaining);
+    }
+}
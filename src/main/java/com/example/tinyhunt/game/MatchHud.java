@@ -1,12 +1,10 @@
 package com.example.tinyhunt.game;
 
-import com.example.tinyhunt.TinyHuntPlugin;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
@@ -16,22 +14,24 @@ import org.bukkit.boss.BarColor;
 import org.bukkit.boss.BarStyle;
 import org.bukkit.boss.BossBar;
 import org.bukkit.entity.Player;
-import org.bukkit.scoreboard.DisplaySlot;
-import org.bukkit.scoreboard.Objective;
-import org.bukkit.scoreboard.Scoreboard;
 import org.bukkit.scoreboard.ScoreboardManager;
 
 /**
  * Handles the sidebar scoreboard and bossbar that track an active TinyHunt match.
+ *
+ * <p>All viewers share one scoreboard per match, rendered once per refresh.</p>
  */
 public final class MatchHud {
 
-    private final TinyHuntPlugin plugin;
+    private final HudStats stats;
     private final BossBar bossBar;
-    private final Map<UUID, Scoreboard> sidebars = new HashMap<>();
+    private final Set<UUID> viewers = new HashSet<>();
+    private SidebarRenderer sharedSidebar;
+    private String bossBarTitle;
+    private double bossBarProgress = -1.0D;
 
-    public MatchHud(TinyHuntPlugin plugin) {
-        this.plugin = Objects.requireNonNull(plugin, "plugin");
+    public MatchHud(HudStats stats) {
+        this.stats = Objects.requireNonNull(stats, "stats");
         this.bossBar = Bukkit.createBossBar("TinyHunt", BarColor.RED, BarStyle.SOLID);
         this.bossBar.setVisible(false);
     }
@@ -44,79 +44,95 @@ public final class MatchHud {
     public void stop() {
         bossBar.removeAll();
         bossBar.setVisible(false);
-        for (UUID uuid : new ArrayList<>(sidebars.keySet())) {
+        bossBarTitle = null;
+        bossBarProgress = -1.0D;
+        for (UUID uuid : viewers) {
             Player player = Bukkit.getPlayer(uuid);
             if (player != null) {
                 player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
             }
         }
-        sidebars.clear();
+        viewers.clear();
+        sharedSidebar = null;
     }
 
     public void update(Collection<UUID> participants, HudSnapshot snapshot) {
         syncParticipants(participants);
-        bossBar.removeAll();
-        bossBar.setTitle(snapshot.bossBarTitle());
-        bossBar.setProgress(snapshot.progress());
-        for (UUID uuid : new HashSet<>(sidebars.keySet())) {
+        if (sharedSidebar == null) {
+            return;
+        }
+        List<String> lines = buildLines(snapshot);
+        String title = snapshot.scoreboardTitle();
+        int sent = 0;
+        int fullRedraw = 0;
+        Iterator<UUID> iterator = viewers.iterator();
+        while (iterator.hasNext()) {
+            UUID uuid = iterator.next();
             Player player = Bukkit.getPlayer(uuid);
             if (player == null || !player.isOnline()) {
-                sidebars.remove(uuid);
-                continue;
-            }
-            List<String> lines = buildLines(snapshot);
-            Scoreboard scoreboard = sidebars.get(uuid);
-            if (scoreboard != null) {
-                renderSidebar(scoreboard, lines, snapshot.scoreboardTitle());
-                bossBar.addPlayer(player);
+                if (player != null) {
+                    bossBar.removePlayer(player);
+                }
+                iterator.remove();
             }
         }
+        // A full redraw re-sends the title, resets every previous entry and registers every line again.
+        fullRedraw += (1 + sharedSidebar.getRenderedCount() + lines.size()) * viewers.size();
+        sent += sharedSidebar.render(title, lines) * viewers.size();
+        // A full redraw also removes and re-adds every boss bar viewer before setting title and progress.
+        fullRedraw += viewers.size() * 4;
+        sent += updateBossBar(snapshot) * viewers.size();
+        stats.record(sent, fullRedraw);
+    }
+
+    private int updateBossBar(HudSnapshot snapshot) {
+        int updates = 0;
+        if (!snapshot.bossBarTitle().equals(bossBarTitle)) {
+            bossBar.setTitle(snapshot.bossBarTitle());
+            bossBarTitle = snapshot.bossBarTitle();
+            updates++;
+        }
+        if (Double.compare(snapshot.progress(), bossBarProgress) != 0) {
+            bossBar.setProgress(snapshot.progress());
+            bossBarProgress = snapshot.progress();
+            updates++;
+        }
+        return updates;
     }
 
     private void syncParticipants(Collection<UUID> participants) {
         Set<UUID> snapshot = new HashSet<>(participants);
-        for (UUID uuid : new HashSet<>(sidebars.keySet())) {
-            if (!snapshot.contains(uuid)) {
-                Player player = Bukkit.getPlayer(uuid);
-                if (player != null) {
-                    bossBar.removePlayer(player);
-                    player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
-                }
-                sidebars.remove(uuid);
+        Iterator<UUID> iterator = viewers.iterator();
+        while (iterator.hasNext()) {
+            UUID uuid = iterator.next();
+            if (snapshot.contains(uuid)) {
+                continue;
+            }
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null) {
+                bossBar.removePlayer(player);
+                player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
+            }
+            iterator.remove();
+        }
+        if (sharedSidebar == null) {
+            ScoreboardManager manager = Bukkit.getScoreboardManager();
+            if (manager == null) {
+                return;
             }
+            sharedSidebar = new SidebarRenderer(manager.getNewScoreboard(), "TinyHunt");
         }
         for (UUID uuid : snapshot) {
-            if (sidebars.containsKey(uuid)) {
+            if (viewers.contains(uuid)) {
                 continue;
             }
             Player player = Bukkit.getPlayer(uuid);
             if (player == null) {
                 continue;
             }
-            ScoreboardManager manager = Bukkit.getScoreboardManager();
-            if (manager == null) {
-                continue;
-            }
-            Scoreboard scoreboard = manager.getNewScoreboard();
-            sidebars.put(uuid, scoreboard);
-            player.setScoreboard(scoreboard);
-        }
-    }
-
-    private void renderSidebar(Scoreboard scoreboard, List<String> lines, String title) {
-        Objective objective = scoreboard.getObjective("tinyhunt");
-        if (objective == null) {
-            objective = scoreboard.registerNewObjective("tinyhunt", "dummy", ChatColor.GOLD + title);
-            objective.setDisplaySlot(DisplaySlot.SIDEBAR);
-        } else {
-            objective.setDisplayName(ChatColor.GOLD + title);
-        }
-        for (String entry : new HashSet<>(scoreboard.getEntries())) {
-            scoreboard.resetScores(entry);
-        }
-        int score = lines.size();
-        for (String line : lines) {
-            objective.getScore(line).setScore(score--);
+            viewers.add(uuid);
+            player.setScoreboard(sharedSidebar.getScoreboard());
+            bossBar.addPlayer(player);
         }
     }
 
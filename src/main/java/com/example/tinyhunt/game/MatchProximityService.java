@@ -0,0 +1,45 @@
+package com.example.tinyhunt.game;
+
+import com.example.tinyhunt.model.PlayerRole;
+import com.kjaza.tinymmo.skill.ProximityService;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import org.bukkit.entity.Player;
+
+/**
+ * Answers skill proximity queries from the spatial index of the match the player is in.
+ */
+public final class MatchProximityService implements ProximityService {
+
+    private final GameManager gameManager;
+
+    public MatchProximityService(GameManager gameManager) {
+        this.gameManager = Objects.requireNonNull(gameManager, "gameManager");
+    }
+
+    @Override
+    public List<Player> withinRadius(Player center, double radius, String role) {
+        if (role == null) {
+            return gameManager.withinRadius(center, radius, null);
+        }
+        return parseRole(role).map(parsed -> gameManager.withinRadius(center, radius, parsed)).orElse(List.of());
+    }
+
+    @Override
+    public Optional<Player> nearest(Player from, String role) {
+        if (role == null) {
+            return gameManager.nearest(from, null);
+        }
+        return parseRole(role).flatMap(parsed -> gameManager.nearest(from, parsed));
+    }
+
+    private static Optional<PlayerRole> parseRole(String role) {
+        try {
+            return Optional.of(PlayerRole.valueOf(role.toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+}
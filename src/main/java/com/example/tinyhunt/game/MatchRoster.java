@@ -0,0 +1,127 @@
+package com.example.tinyhunt.game;
+
+import com.example.tinyhunt.model.PlayerRole;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import org.bukkit.entity.Player;
+
+/**
+ * Participants of a running match and the role each of them currently plays.
+ *
+ * <p>Participants are indexed by role as they change roles, so counts and per-role player lookups used by the
+ * HUD and the win checks are constant time and allocation free.</p>
+ */
+public final class MatchRoster {
+
+    private final Map<UUID, Player> participants = new LinkedHashMap<>();
+    private final Map<UUID, PlayerRole> roles = new LinkedHashMap<>();
+    private final Map<PlayerRole, Map<UUID, Player>> byRole = new EnumMap<>(PlayerRole.class);
+    private final Map<PlayerRole, Collection<Player>> byRoleViews = new EnumMap<>(PlayerRole.class);
+    private final Set<UUID> participantView = Collections.unmodifiableSet(participants.keySet());
+
+    public MatchRoster() {
+        for (PlayerRole role : PlayerRole.values()) {
+            Map<UUID, Player> players = new LinkedHashMap<>();
+            byRole.put(role, players);
+            byRoleViews.put(role, Collections.unmodifiableCollection(players.values()));
+        }
+    }
+
+    /**
+     * Adds a participant as a runner; returns {@code false} if they were already in the roster.
+     */
+    public boolean add(Player player) {
+        UUID playerId = Objects.requireNonNull(player, "player").getUniqueId();
+        if (participants.putIfAbsent(playerId, player) != null) {
+            return false;
+        }
+        roles.put(playerId, PlayerRole.RUNNER);
+        byRole.get(PlayerRole.RUNNER).put(playerId, player);
+        return true;
+    }
+
+    public boolean remove(UUID playerId) {
+        if (participants.remove(playerId) == null) {
+            return false;
+        }
+        byRole.get(roles.remove(playerId)).remove(playerId);
+        return true;
+    }
+
+    public void clear() {
+        participants.clear();
+        roles.clear();
+        for (Map<UUID, Player> players : byRole.values()) {
+            players.clear();
+        }
+    }
+
+    public boolean contains(UUID playerId) {
+        return participants.containsKey(playerId);
+    }
+
+    public int size() {
+        return participants.size();
+    }
+
+    public boolean isEmpty() {
+        return participants.isEmpty();
+    }
+
+    public Set<UUID> getParticipants() {
+        return participantView;
+    }
+
+    public PlayerRole getRole(UUID playerId) {
+        return roles.getOrDefault(playerId, PlayerRole.RUNNER);
+    }
+
+    public void setRole(UUID playerId, PlayerRole role) {
+        Objects.requireNonNull(role, "role");
+        Player player = participants.get(playerId);
+        if (player == null) {
+            return;
+        }
+        PlayerRole previous = roles.put(playerId, role);
+        if (previous != role) {
+            byRole.get(previous).remove(playerId);
+            byRole.get(role).put(playerId, player);
+        }
+    }
+
+    public int getCount(PlayerRole role) {
+        return byRole.get(role).size();
+    }
+
+    public int getRunnerCount() {
+        return getCount(PlayerRole.RUNNER);
+    }
+
+    public int getHunterCount() {
+        return getCount(PlayerRole.HUNTER);
+    }
+
+    /**
+     * Live, read-only view of the participants currently playing the given role.
+     */
+    public Collection<Player> getPlayers(PlayerRole role) {
+        return byRoleViews.get(role);
+    }
+
+    /**
+     * Participants that are still running.
+     */
+    public Collection<Player> getRemainingRunners() {
+        return getPlayers(PlayerRole.RUNNER);
+    }
+
+    public boolean hasRemainingRunners() {
+        return !byRole.get(PlayerRole.RUNNER).isEmpty();
+    }
+}
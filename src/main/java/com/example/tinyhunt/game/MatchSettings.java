@@ -0,0 +1,37 @@
+package com.example.tinyhunt.game;
+
+import java.util.Objects;
+import org.bukkit.configuration.ConfigurationSection;
+
+/**
+ * Immutable match tuning values read from the plugin configuration and shared by every arena.
+ */
+public record MatchSettings(int minPlayers, int maxPlayers, int autoStartSeconds, int hunterDelaySeconds,
+        int gameDurationSeconds, int conversionDelaySeconds, int conversionInvulnerabilitySeconds,
+        boolean suddenDeathEnabled, int suddenDeathStartSeconds, int suddenDeathRevealIntervalSeconds,
+        int suddenDeathRevealDurationSeconds, int suddenDeathHunterSpeedAmplifier, float runnerScale,
+        float hunterScale, boolean replaysEnabled, int replaySampleTicks) {
+
+    public static MatchSettings load(ConfigurationSection config) {
+        Objects.requireNonNull(config, "config");
+        int minPlayers = Math.max(2, config.getInt("players.min", 4));
+        int maxPlayers = Math.max(minPlayers, config.getInt("players.max", minPlayers));
+        return new MatchSettings(
+                minPlayers,
+                maxPlayers,
+                Math.max(5, config.getInt("timers.auto-start-seconds", 120)),
+                Math.max(1, config.getInt("timers.hunter-selection-seconds", 10)),
+                Math.max(30, config.getInt("timers.game-duration-seconds", 600)),
+                Math.max(1, config.getInt("timers.runner-respawn-seconds", 5)),
+                Math.max(0, config.getInt("timers.respawn-invulnerability-seconds", 2)),
+                config.getBoolean("sudden-death.enabled", true),
+                Math.max(10, config.getInt("sudden-death.start-seconds", 120)),
+                Math.max(5, config.getInt("sudden-death.reveal-interval-seconds", 20)),
+                Math.max(1, config.getInt("sudden-death.reveal-duration-seconds", 5)),
+                Math.max(0, config.getInt("sudden-death.hunter-speed-amplifier", 1)),
+                (float) config.getDouble("scales.runner", 0.33D),
+                (float) config.getDouble("scales.hunter", 1.0D),
+                config.getBoolean("replays.enabled", true),
+                Math.max(1, config.getInt("replays.position-sample-ticks", 10)));
+    }
+}
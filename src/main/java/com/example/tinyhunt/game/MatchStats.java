@@ -0,0 +1,77 @@
+package com.example.tinyhunt.game;
+
+import com.example.tinyhunt.model.PlayerStats;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * In-memory statistics of the running match, turned into per-player increments when it ends.
+ */
+final class MatchStats {
+
+    private final Map<UUID, Tally> tallies = new HashMap<>();
+
+    void start(Collection<UUID> participants, long tick) {
+        tallies.clear();
+        for (UUID uuid : participants) {
+            Tally tally = new Tally();
+            tally.runnerSinceTick = tick;
+            tallies.put(uuid, tally);
+        }
+    }
+
+    void recordCatch(UUID hunterId) {
+        Tally tally = tallies.get(hunterId);
+        if (tally != null) {
+            tally.catches++;
+        }
+    }
+
+    void recordConversion(UUID playerId, long tick) {
+        Tally tally = tallies.get(playerId);
+        if (tally != null) {
+            tally.conversions++;
+        }
+        stopSurvival(playerId, tick);
+    }
+
+    /**
+     * Stops the survival clock of a player who stopped being a runner or left the match.
+     */
+    void stopSurvival(UUID playerId, long tick) {
+        Tally tally = tallies.get(playerId);
+        if (tally != null && tally.runnerSinceTick >= 0L) {
+            tally.survivalTicks += tick - tally.runnerSinceTick;
+            tally.runnerSinceTick = -1L;
+        }
+    }
+
+    /**
+     * Closes every survival clock and returns one increment per player that took part, then forgets them.
+     */
+    Map<UUID, PlayerStats> finish(long tick, Collection<UUID> winners) {
+        Map<UUID, PlayerStats> increments = new HashMap<>(tallies.size() * 2);
+        for (Map.Entry<UUID, Tally> entry : tallies.entrySet()) {
+            stopSurvival(entry.getKey(), tick);
+            Tally tally = entry.getValue();
+            increments.put(entry.getKey(), new PlayerStats(1, winners.contains(entry.getKey()) ? 1 : 0,
+                    tally.catches, tally.conversions, tally.survivalTicks));
+        }
+        tallies.clear();
+        return increments;
+    }
+
+    void clear() {
+        tallies.clear();
+    }
+
+    private static final class Tally {
+
+        private int catches;
+        private int conversions;
+        private long survivalTicks;
+        private long runnerSinceTick = -1L;
+    }
+}
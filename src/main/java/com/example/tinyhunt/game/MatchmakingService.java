@@ -0,0 +1,377 @@
+package com.example.tinyhunt.game;
+
+import com.example.tinyhunt.TinyHuntPlugin;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+/**
+ * Quick-play queue that groups players of similar rating and hands each group to an idle arena.
+ *
+ * <p>A ticket is a solo player or a whole party, whose membership is the party snapshot taken when it queued;
+ * it is rated by its members' average and always placed, or dropped, as one unit. Tickets live in rating
+ * buckets of {@link MatchmakingSettings#bucketSize()} points, ordered by arrival; a ticket put back after a
+ * failed hand-off regains its place. Once a second the oldest few tickets act as anchors: candidates are
+ * gathered from the anchor's bucket outwards, only visiting the buckets inside its rating window, and the
+ * window widens the longer the anchor has waited. The candidates are then
+ * packed into the lobby largest group first, so parties do not leave seats that only solos could fill. Full
+ * lobbies are formed at once, partial ones (at least the minimum player count) after the anchor has waited
+ * {@link MatchmakingSettings#partialLobbyWaitSeconds()}.</p>
+ */
+public final class MatchmakingService {
+
+    private static final long PASS_PERIOD_TICKS = 20L;
+    private static final int ANCHORS_PER_PASS = 8;
+    private static final int MAX_BUCKETS = 512;
+    private static final int CANDIDATE_SEATS_FACTOR = 2;
+    private static final Comparator<Ticket> LARGEST_FIRST = Comparator.comparingInt(Ticket::size).reversed();
+    private static final Comparator<Ticket> OLDEST_FIRST = Comparator.comparingLong(Ticket::sequence);
+
+    private final TinyHuntPlugin plugin;
+    private final GameManager gameManager;
+    private final TreeSet<Ticket> tickets = new TreeSet<>(OLDEST_FIRST);
+    private final Map<UUID, Ticket> members = new HashMap<>();
+    @SuppressWarnings("unchecked")
+    private final Set<Ticket>[] buckets = new Set[MAX_BUCKETS];
+    private long nextSequence;
+    private MatchmakingSettings settings;
+    private GameLoop.Task passTask;
+
+    MatchmakingService(TinyHuntPlugin plugin, GameManager gameManager) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin");
+        this.gameManager = Objects.requireNonNull(gameManager, "gameManager");
+        for (int i = 0; i < MAX_BUCKETS; i++) {
+            buckets[i] = new TreeSet<>(OLDEST_FIRST);
+        }
+    }
+
+    void start() {
+        if (passTask == null) {
+            passTask = plugin.getGameLoop().runRepeating(PASS_PERIOD_TICKS, PASS_PERIOD_TICKS, this::pass);
+        }
+    }
+
+    void stop() {
+        if (passTask != null) {
+            passTask.cancel();
+            passTask = null;
+        }
+    }
+
+    /**
+     * Applies new settings, moving waiting tickets into the buckets of the new width.
+     */
+    void reload(MatchmakingSettings settings) {
+        this.settings = Objects.requireNonNull(settings, "settings");
+        for (Set<Ticket> bucket : buckets) {
+            bucket.clear();
+        }
+        for (Ticket ticket : tickets) {
+            ticket.bucket = bucketOf(ticket.rating);
+            buckets[ticket.bucket].add(ticket);
+        }
+    }
+
+    public boolean isQueued(UUID playerId) {
+        return members.containsKey(playerId);
+    }
+
+    public int getQueuedCount() {
+        return members.size();
+    }
+
+    /**
+     * Puts the player, with their whole party when they lead one, in the quick-play queue once every member's
+     * rating is known.
+     */
+    public void enqueue(Player player) {
+        UUID uuid = player.getUniqueId();
+        if (!settings.enabled()) {
+            player.sendMessage(plugin.getMessage("messages.matchmaking-disabled"));
+            return;
+        }
+        Match current = gameManager.getMatch(uuid);
+        if (current != null) {
+            player.sendMessage(plugin.getMessage("messages.already-queued-other",
+                    Map.of("arena", current.getArenaName())));
+            return;
+        }
+        if (isQueued(uuid)) {
+            player.sendMessage(plugin.getMessage("messages.already-queued"));
+            return;
+        }
+        List<Player> group = gameManager.queueGroup(player);
+        if (group.isEmpty()) {
+            return;
+        }
+        int maxPlayers = gameManager.getSettings().maxPlayers();
+        if (group.size() > maxPlayers) {
+            player.sendMessage(plugin.getMessage("messages.party-too-large",
+                    Map.of("size", group.size(), "max", maxPlayers)));
+            return;
+        }
+        for (Player member : group) {
+            if (isQueued(member.getUniqueId())) {
+                player.sendMessage(plugin.getMessage("messages.party-member-busy",
+                        Map.of("player", member.getName())));
+                return;
+            }
+        }
+        List<UUID> memberIds = new ArrayList<>(group.size());
+        for (Player member : group) {
+            memberIds.add(member.getUniqueId());
+        }
+        Ticket ticket = new Ticket(List.copyOf(memberIds), nextSequence++, plugin.getGameLoop().getCurrentTick());
+        for (UUID memberId : ticket.memberIds) {
+            members.put(memberId, ticket);
+        }
+        for (UUID memberId : ticket.memberIds) {
+            plugin.getStats().withProfile(memberId, profile -> rated(ticket, profile.rating()));
+        }
+    }
+
+    private void rated(Ticket ticket, int rating) {
+        ticket.ratingSum += rating;
+        if (++ticket.rated < ticket.size() || members.get(ticket.leader()) != ticket) {
+            return;
+        }
+        ticket.rating = (int) (ticket.ratingSum / ticket.size());
+        ticket.bucket = bucketOf(ticket.rating);
+        tickets.add(ticket);
+        buckets[ticket.bucket].add(ticket);
+        for (UUID memberId : ticket.memberIds) {
+            Player member = Bukkit.getPlayer(memberId);
+            if (member != null) {
+                member.sendMessage(plugin.getMessage("messages.matchmaking-joined",
+                        Map.of("rating", ticket.rating, "queued", getQueuedCount())));
+            }
+        }
+    }
+
+    /**
+     * Takes the player out of the quick-play queue, returning whether they were in it. A party leaves as a
+     * whole, and its other members are told.
+     */
+    public boolean remove(UUID playerId) {
+        Ticket ticket = members.get(playerId);
+        if (ticket == null) {
+            return false;
+        }
+        unlink(ticket);
+        notifyCancelled(ticket, playerId);
+        return true;
+    }
+
+    private void notifyCancelled(Ticket ticket, UUID except) {
+        for (UUID memberId : ticket.memberIds) {
+            Player member = memberId.equals(except) ? null : Bukkit.getPlayer(memberId);
+            if (member != null) {
+                member.sendMessage(plugin.getMessage("messages.matchmaking-party-cancelled"));
+            }
+        }
+    }
+
+    private void unlink(Ticket ticket) {
+        for (UUID memberId : ticket.memberIds) {
+            members.remove(memberId, ticket);
+        }
+        if (tickets.remove(ticket)) {
+            buckets[ticket.bucket].remove(ticket);
+        }
+    }
+
+    private void pass() {
+        if (tickets.isEmpty()) {
+            return;
+        }
+        MatchSettings matchSettings = gameManager.getSettings();
+        List<Match> idle = new ArrayList<>();
+        for (Match match : gameManager.getMatches()) {
+            if (match.canHostLobby()) {
+                idle.add(match);
+            }
+        }
+        if (idle.isEmpty()) {
+            return;
+        }
+        long now = plugin.getGameLoop().getCurrentTick();
+        List<Ticket> anchors = new ArrayList<>(ANCHORS_PER_PASS);
+        for (Ticket ticket : tickets) {
+            anchors.add(ticket);
+            if (anchors.size() == ANCHORS_PER_PASS) {
+                break;
+            }
+        }
+        for (Ticket anchor : anchors) {
+            if (idle.isEmpty()) {
+                return;
+            }
+            if (!tickets.contains(anchor)) {
+                continue;
+            }
+            long waitedSeconds = (now - anchor.enqueuedTick) / 20L;
+            List<Ticket> candidates = gather(anchor, window(waitedSeconds),
+                    matchSettings.maxPlayers() * CANDIDATE_SEATS_FACTOR);
+            List<Ticket> lobby = pack(anchor, candidates, matchSettings.maxPlayers());
+            int seats = seats(lobby);
+            if (seats < matchSettings.minPlayers()) {
+                continue;
+            }
+            if (seats < matchSettings.maxPlayers() && waitedSeconds < settings.partialLobbyWaitSeconds()) {
+                continue;
+            }
+            List<Player> players = new ArrayList<>(seats);
+            for (Ticket ticket : lobby) {
+                unlink(ticket);
+                for (UUID memberId : ticket.memberIds) {
+                    Player player = Bukkit.getPlayer(memberId);
+                    if (player != null) {
+                        players.add(player);
+                    }
+                }
+            }
+            Match match = idle.remove(idle.size() - 1);
+            if (players.size() < seats || !match.admit(players, settings.countdownSeconds())) {
+                // Someone went offline in between; every complete group goes back in its old place, and the rest
+                // of a group that lost a member is told its search ended.
+                for (Ticket ticket : lobby) {
+                    if (ticket.isOnline()) {
+                        requeue(ticket);
+                    } else {
+                        notifyCancelled(ticket, null);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects other tickets within {@code window} rating points of the anchor until they hold {@code seats}
+     * players, closest buckets first and oldest first within a bucket.
+     */
+    private List<Ticket> gather(Ticket anchor, int window, int seats) {
+        List<Ticket> candidates = new ArrayList<>();
+        int[] collected = {0};
+        int low = bucketOf(anchor.rating - window);
+        int high = bucketOf(anchor.rating + window);
+        int span = Math.max(anchor.bucket - low, high - anchor.bucket);
+        for (int offset = 0; offset <= span && collected[0] < seats; offset++) {
+            collect(anchor, window, anchor.bucket - offset, low, high, candidates, collected, seats);
+            if (offset > 0) {
+                collect(anchor, window, anchor.bucket + offset, low, high, candidates, collected, seats);
+            }
+        }
+        return candidates;
+    }
+
+    private void collect(Ticket anchor, int window, int bucket, int low, int high, List<Ticket> candidates,
+            int[] collected, int seats) {
+        if (bucket < low || bucket > high) {
+            return;
+        }
+        Iterator<Ticket> iterator = buckets[bucket].iterator();
+        while (iterator.hasNext() && collected[0] < seats) {
+            Ticket ticket = iterator.next();
+            if (ticket != anchor && Math.abs(ticket.rating - anchor.rating) <= window) {
+                candidates.add(ticket);
+                collected[0] += ticket.size();
+            }
+        }
+    }
+
+    /**
+     * First-fit decreasing into one arena: the anchor always gets a seat, then the largest candidates that
+     * still fit, the oldest first among groups of the same size.
+     */
+    private static List<Ticket> pack(Ticket anchor, List<Ticket> candidates, int capacity) {
+        List<Ticket> lobby = new ArrayList<>();
+        lobby.add(anchor);
+        int free = capacity - anchor.size();
+        candidates.sort(LARGEST_FIRST);
+        for (Ticket candidate : candidates) {
+            if (free == 0) {
+                break;
+            }
+            if (candidate.size() <= free) {
+                lobby.add(candidate);
+                free -= candidate.size();
+            }
+        }
+        return lobby;
+    }
+
+    private static int seats(List<Ticket> lobby) {
+        int seats = 0;
+        for (Ticket ticket : lobby) {
+            seats += ticket.size();
+        }
+        return seats;
+    }
+
+    private void requeue(Ticket ticket) {
+        for (UUID memberId : ticket.memberIds) {
+            members.put(memberId, ticket);
+        }
+        tickets.add(ticket);
+        buckets[ticket.bucket].add(ticket);
+    }
+
+    private int window(long waitedSeconds) {
+        long widened = settings.baseWindow() + waitedSeconds * settings.windowGrowthPerSecond();
+        return (int) Math.min(settings.maxWindow(), widened);
+    }
+
+    private int bucketOf(int rating) {
+        return Math.max(0, Math.min(MAX_BUCKETS - 1, rating / settings.bucketSize()));
+    }
+
+    /**
+     * A solo player or a party, leader first; it only enters the buckets once every member has been rated.
+     */
+    private static final class Ticket {
+
+        private final List<UUID> memberIds;
+        private final long sequence;
+        private final long enqueuedTick;
+        private long ratingSum;
+        private int rated;
+        private int rating;
+        private int bucket;
+
+        private Ticket(List<UUID> memberIds, long sequence, long enqueuedTick) {
+            this.memberIds = memberIds;
+            this.sequence = sequence;
+            this.enqueuedTick = enqueuedTick;
+        }
+
+        private long sequence() {
+            return sequence;
+        }
+
+        private UUID leader() {
+            return memberIds.get(0);
+        }
+
+        private int size() {
+            return memberIds.size();
+        }
+
+        private boolean isOnline() {
+            for (UUID memberId : memberIds) {
+                if (Bukkit.getPlayer(memberId) == null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.tinyhunt.game;
+
+import java.util.Objects;
+import org.bukkit.configuration.ConfigurationSection;
+
+/**
+ * Immutable matchmaking tuning: rating bucket width, how the accepted rating window grows with waiting time,
+ * and how long a partial lobby waits before it is formed anyway.
+ */
+public record MatchmakingSettings(boolean enabled, int bucketSize, int baseWindow, int windowGrowthPerSecond,
+        int maxWindow, int partialLobbyWaitSeconds, int countdownSeconds) {
+
+    public static MatchmakingSettings load(ConfigurationSection config) {
+        Objects.requireNonNull(config, "config");
+        int baseWindow = Math.max(0, config.getInt("matchmaking.base-window", 100));
+        return new MatchmakingSettings(
+                config.getBoolean("matchmaking.enabled", true),
+                Math.max(1, config.getInt("matchmaking.bucket-size", 50)),
+                baseWindow,
+                Math.max(0, config.getInt("matchmaking.window-growth-per-second", 10)),
+                Math.max(baseWindow, config.getInt("matchmaking.max-window", 1000)),
+                Math.max(0, config.getInt("matchmaking.partial-lobby-wait-seconds", 30)),
+                Math.max(5, config.getInt("matchmaking.countdown-seconds", 15)));
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.tinyhunt.game;
+
+import com.example.tinyhunt.model.AreaBounds;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import org.bukkit.entity.Player;
+
+/**
+ * Uniform grid over an arena's X/Z plane that buckets participants by cell for proximity queries.
+ *
+ * <p>Positions are pushed in from movement and teleports; a participant only changes bucket when it crosses a
+ * cell boundary. Queries visit the cells around the query point ring by ring, so their cost depends on the
+ * players nearby rather than on the size of the match.</p>
+ */
+public final class ParticipantGrid {
+
+    private final double originX;
+    private final double originZ;
+    private final int cellSize;
+    private final int columns;
+    private final int rows;
+    private final List<Tracked>[] cells;
+    private final Map<UUID, Tracked> tracked = new HashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public ParticipantGrid(AreaBounds bounds, int cellSize) {
+        Objects.requireNonNull(bounds, "bounds");
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("cellSize must be positive");
+        }
+        this.originX = bounds.getMinX();
+        this.originZ = bounds.getMinZ();
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil((bounds.getMaxX() - originX) / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil((bounds.getMaxZ() - originZ) / cellSize));
+        this.cells = new List[columns * rows];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new ArrayList<>(2);
+        }
+    }
+
+    /**
+     * Records a participant's position, moving them to another bucket only if the cell changed.
+     */
+    public void update(Player player, double x, double y, double z) {
+        Tracked entry = tracked.get(player.getUniqueId());
+        int cell = cellIndex(x, z);
+        if (entry == null) {
+            entry = new Tracked(player);
+            tracked.put(player.getUniqueId(), entry);
+            cells[cell].add(entry);
+        } else if (entry.cell != cell) {
+            cells[entry.cell].remove(entry);
+            cells[cell].add(entry);
+        }
+        entry.cell = cell;
+        entry.x = x;
+        entry.y = y;
+        entry.z = z;
+    }
+
+    public void remove(UUID playerId) {
+        Tracked entry = tracked.remove(playerId);
+        if (entry != null) {
+            cells[entry.cell].remove(entry);
+        }
+    }
+
+    public void clear() {
+        tracked.clear();
+        for (List<Tracked> cell : cells) {
+            cell.clear();
+        }
+    }
+
+    public int size() {
+        return tracked.size();
+    }
+
+    /**
+     * Closest tracked player accepted by the filter, or {@code null} when there is none.
+     */
+    public Player nearest(double x, double y, double z, Predicate<UUID> filter) {
+        int centerColumn = column(x);
+        int centerRow = row(z);
+        // Rings past the farthest grid edge hold no cells.
+        int maxRing = Math.max(Math.max(centerColumn, columns - 1 - centerColumn),
+                Math.max(centerRow, rows - 1 - centerRow));
+        Nearest nearest = new Nearest(x, y, z, filter);
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // Anything in this ring or beyond is at least (ring - 1) cells away from the query point.
+            double ringDistance = (ring - 1) * (double) cellSize;
+            if (nearest.best != null && ringDistance > 0 && ringDistance * ringDistance > nearest.distanceSquared) {
+                break;
+            }
+            if (ring == 0) {
+                scan(centerColumn, centerRow, nearest);
+                continue;
+            }
+            // Only the perimeter: the top and bottom rows in full, then the side columns between them.
+            for (int column = centerColumn - ring; column <= centerColumn + ring; column++) {
+                scan(column, centerRow - ring, nearest);
+                scan(column, centerRow + ring, nearest);
+            }
+            for (int row = centerRow - ring + 1; row <= centerRow + ring - 1; row++) {
+                scan(centerColumn - ring, row, nearest);
+                scan(centerColumn + ring, row, nearest);
+            }
+        }
+        return nearest.best == null ? null : nearest.best.player;
+    }
+
+    private void scan(int column, int row, Nearest nearest) {
+        if (column < 0 || row < 0 || column >= columns || row >= rows) {
+            return;
+        }
+        for (Tracked entry : cells[row * columns + column]) {
+            double distanceSquared = entry.distanceSquared(nearest.x, nearest.y, nearest.z);
+            if (distanceSquared < nearest.distanceSquared && nearest.filter.test(entry.playerId)) {
+                nearest.best = entry;
+                nearest.distanceSquared = distanceSquared;
+            }
+        }
+    }
+
+    /**
+     * Passes every tracked player within {@code radius} of the point and accepted by the filter to the action.
+     */
+    public void withinRadius(double x, double y, double z, double radius, Predicate<UUID> filter,
+            Consumer<Player> action) {
+        double radiusSquared = radius * radius;
+        int minColumn = Math.max(0, column(x - radius));
+        int maxColumn = Math.min(columns - 1, column(x + radius));
+        int minRow = Math.max(0, row(z - radius));
+        int maxRow = Math.min(rows - 1, row(z + radius));
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                for (Tracked entry : cells[row * columns + column]) {
+                    if (entry.distanceSquared(x, y, z) <= radiusSquared && filter.test(entry.playerId)) {
+                        action.accept(entry.player);
+                    }
+                }
+            }
+        }
+    }
+
+    public List<Player> withinRadius(double x, double y, double z, double radius, Predicate<UUID> filter) {
+        List<Player> players = new ArrayList<>();
+        withinRadius(x, y, z, radius, filter, players::add);
+        return players;
+    }
+
+    private int cellIndex(double x, double z) {
+        return row(z) * columns + column(x);
+    }
+
+    private int column(double x) {
+        return Math.max(0, Math.min(columns - 1, (int) Math.floor((x - originX) / cellSize)));
+    }
+
+    private int row(double z) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor((z - originZ) / cellSize)));
+    }
+
+    /**
+     * Running best match of one {@link #nearest} query.
+     */
+    private static final class Nearest {
+
+        private final double x;
+        private final double y;
+        private final double z;
+        private final Predicate<UUID> filter;
+        private Tracked best;
+        private double distanceSquared = Double.MAX_VALUE;
+
+        private Nearest(double x, double y, double z, Predicate<UUID> filter) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.filter = filter;
+        }
+    }
+
+    private static final class Tracked {
+
+        private final Player player;
+        private final UUID playerId;
+        private int cell;
+        private double x;
+        private double y;
+        private double z;
+
+        private Tracked(Player player) {
+            this.player = player;
+            this.playerId = player.getUniqueId();
+        }
+
+        private double distanceSquared(double otherX, double otherY, double otherZ) {
+            double dx = x - otherX;
+            double dy = y - otherY;
+            double dz = z - otherZ;
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 /**
@@ -18,6 +19,12 @@ public final class PlayerListener implements Listener {
         this.gameManager = Objects.requireNonNull(gameManager, "gameManager");
     }
 
+    @EventHandler
+    public void onJoin(PlayerJoinEvent event) {
+        // Warm the statistics cache so /tinyhunt stats can answer without waiting on the disk.
+        gameManager.getPlugin().getStats().load(event.getPlayer().getUniqueId());
+    }
+
     @EventHandler
     public void onQuit(PlayerQuitEvent event) {
         gameManager.handlePlayerQuit(event.getPlayer());
@@ -31,19 +38,20 @@ public final class PlayerListener implements Listener {
         if (!(event.getEntity() instanceof Player victim)) {
             return;
         }
-        if (gameManager.getState() != GameState.RUNNING) {
+        Match match = gameManager.getMatch(damager.getUniqueId());
+        if (match == null || match.getState() != GameState.RUNNING) {
             return;
         }
-        if (!gameManager.isHunter(damager)) {
+        if (!match.isHunter(damager.getUniqueId())) {
             return;
         }
-        if (!gameManager.isParticipant(victim)) {
+        if (!match.isParticipant(victim.getUniqueId())) {
             return;
         }
-        if (gameManager.isHunter(victim)) {
+        if (match.isHunter(victim.getUniqueId())) {
             return;
         }
         event.setCancelled(true);
-        gameManager.handleHunterHit(damager, victim);
+        match.handleHunterHit(damager, victim);
     }
 }
@@ -0,0 +1,102 @@
+package com.example.tinyhunt.game;
+
+import java.util.List;
+import java.util.Objects;
+import org.bukkit.ChatColor;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+
+/**
+ * Sidebar objective whose lines are backed by one team per slot, so a changed line only updates that team's
+ * prefix instead of resetting and re-registering every score.
+ */
+final class SidebarRenderer {
+
+    static final int MAX_LINES = 15;
+
+    private static final String OBJECTIVE_NAME = "tinyhunt";
+    private static final String TEAM_PREFIX = "th_line_";
+    private static final String[] ENTRIES = new String[MAX_LINES];
+
+    static {
+        ChatColor[] colors = ChatColor.values();
+        for (int i = 0; i < MAX_LINES; i++) {
+            ENTRIES[i] = colors[i].toString() + ChatColor.RESET;
+        }
+    }
+
+    private final Scoreboard scoreboard;
+    private final Objective objective;
+    private final Team[] teams = new Team[MAX_LINES];
+    private final String[] rendered = new String[MAX_LINES];
+    private String renderedTitle;
+    private int renderedCount;
+
+    SidebarRenderer(Scoreboard scoreboard, String title) {
+        this.scoreboard = Objects.requireNonNull(scoreboard, "scoreboard");
+        Objective existing = scoreboard.getObjective(OBJECTIVE_NAME);
+        if (existing == null) {
+            existing = scoreboard.registerNewObjective(OBJECTIVE_NAME, "dummy", ChatColor.GOLD + title);
+            existing.setDisplaySlot(DisplaySlot.SIDEBAR);
+        }
+        this.objective = existing;
+        this.renderedTitle = title;
+    }
+
+    Scoreboard getScoreboard() {
+        return scoreboard;
+    }
+
+    int getRenderedCount() {
+        return renderedCount;
+    }
+
+    /**
+     * Brings the sidebar to the given title and lines, returning how many scoreboard updates were sent.
+     */
+    int render(String title, List<String> lines) {
+        int updates = 0;
+        if (!title.equals(renderedTitle)) {
+            objective.setDisplayName(ChatColor.GOLD + title);
+            renderedTitle = title;
+            updates++;
+        }
+        int count = Math.min(MAX_LINES, lines.size());
+        for (int i = 0; i < count; i++) {
+            String line = lines.get(i);
+            if (!line.equals(rendered[i])) {
+                team(i).setPrefix(line);
+                rendered[i] = line;
+                updates++;
+            }
+        }
+        if (count != renderedCount) {
+            for (int i = count; i < renderedCount; i++) {
+                scoreboard.resetScores(ENTRIES[i]);
+                rendered[i] = null;
+                updates++;
+            }
+            for (int i = 0; i < count; i++) {
+                objective.getScore(ENTRIES[i]).setScore(count - i);
+                updates++;
+            }
+            renderedCount = count;
+        }
+        return updates;
+    }
+
+    private Team team(int slot) {
+        Team team = teams[slot];
+        if (team == null) {
+            team = scoreboard.getTeam(TEAM_PREFIX + slot);
+            if (team == null) {
+                team = scoreboard.registerNewTeam(TEAM_PREFIX + slot);
+            }
+            team.addEntry(ENTRIES[slot]);
+            teams[slot] = team;
+        }
+        return team;
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.tinyhunt.game;
+
+import com.example.tinyhunt.model.AreaBounds;
+import com.example.tinyhunt.model.ArenaDefinition;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Level;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Validated spawn points of one arena, with asynchronous chunk pre-loading ahead of a match start.
+ *
+ * <p>{@link #prepare(ArenaDefinition)} loads the spawn chunks with Paper's async chunk API and keeps only the
+ * configured spawns a player can stand on, nudged a few blocks vertically if needed. It runs on first use, not
+ * when the arena is registered, and {@link #invalidate()} drops the result after an edit. {@link #prewarm()}
+ * then pins the chunks of those spawns with plugin tickets while the countdown runs, so the teleports at match
+ * start find them loaded.</p>
+ */
+final class SpawnPlanner {
+
+    private static final int VERTICAL_SEARCH = 4;
+
+    private final Plugin plugin;
+    private final List<Chunk> pinnedChunks = new ArrayList<>();
+    private List<Location> safeSpawns = List.of();
+    private int generation;
+    private boolean prepared;
+    private boolean pinned;
+
+    SpawnPlanner(Plugin plugin) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin");
+    }
+
+    /**
+     * Whether spawns were validated, or are being validated, since the last {@link #invalidate()}.
+     */
+    boolean isPrepared() {
+        return prepared;
+    }
+
+    /**
+     * Validates the arena's spawns in the background; until it completes, {@link #pick()} and
+     * {@link #plan(int)} only return spawns validated earlier, if any.
+     */
+    void prepare(ArenaDefinition arena) {
+        int token = ++generation;
+        prepared = true;
+        AreaBounds bounds = arena.getArea().getBounds();
+        List<Location> candidates = new ArrayList<>();
+        for (Location spawn : arena.getSpawns()) {
+            if (spawn.getWorld() != null) {
+                candidates.add(spawn.clone());
+            }
+        }
+        loadChunks(candidates).whenComplete((chunks, error) -> {
+            if (token != generation) {
+                return;
+            }
+            if (error != null) {
+                plugin.getLogger().log(Level.WARNING, "Could not load spawn chunks for arena " + arena.getName(),
+                        error);
+                return;
+            }
+            safeSpawns = validate(candidates, bounds);
+            if (!candidates.isEmpty() && safeSpawns.isEmpty()) {
+                plugin.getLogger().warning("Arena " + arena.getName() + " has no safe spawn point.");
+            }
+            if (pinned) {
+                pin();
+            }
+        });
+    }
+
+    /**
+     * Forgets the validated spawns after the arena changed; an in-flight validation is discarded.
+     */
+    void invalidate() {
+        generation++;
+        prepared = false;
+        safeSpawns = List.of();
+    }
+
+    /**
+     * Pins the chunks of every safe spawn until {@link #release()}, loading them asynchronously if needed.
+     */
+    void prewarm() {
+        pinned = true;
+        pin();
+    }
+
+    void release() {
+        pinned = false;
+        for (Chunk chunk : pinnedChunks) {
+            chunk.removePluginChunkTicket(plugin);
+        }
+        pinnedChunks.clear();
+    }
+
+    /**
+     * Returns {@code count} spawn locations spread over distinct safe spawns; spawns are only reused once
+     * every one of them has been handed out.
+     */
+    List<Location> plan(int count) {
+        List<Location> planned = new ArrayList<>(count);
+        List<Location> round = new ArrayList<>(safeSpawns);
+        while (planned.size() < count && !round.isEmpty()) {
+            Collections.shuffle(round);
+            for (int i = 0; i < round.size() && planned.size() < count; i++) {
+                planned.add(round.get(i).clone());
+            }
+        }
+        return planned;
+    }
+
+    /**
+     * A single random safe spawn, or {@code null} when none has been validated.
+     */
+    Location pick() {
+        List<Location> spawns = safeSpawns;
+        if (spawns.isEmpty()) {
+            return null;
+        }
+        return spawns.get(ThreadLocalRandom.current().nextInt(spawns.size())).clone();
+    }
+
+    private void pin() {
+        for (Chunk chunk : pinnedChunks) {
+            chunk.removePluginChunkTicket(plugin);
+        }
+        pinnedChunks.clear();
+        int token = generation;
+        loadChunks(safeSpawns).thenAccept(chunks -> {
+            if (!pinned || token != generation) {
+                return;
+            }
+            for (Chunk chunk : chunks) {
+                if (chunk.addPluginChunkTicket(plugin)) {
+                    pinnedChunks.add(chunk);
+                }
+            }
+        });
+    }
+
+    private CompletableFuture<List<Chunk>> loadChunks(List<Location> locations) {
+        Set<ChunkKey> keys = new LinkedHashSet<>();
+        for (Location location : locations) {
+            keys.add(new ChunkKey(location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4));
+        }
+        List<CompletableFuture<Chunk>> futures = new ArrayList<>(keys.size());
+        for (ChunkKey key : keys) {
+            futures.add(key.world().getChunkAtAsync(key.x(), key.z()));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            List<Chunk> chunks = new ArrayList<>(futures.size());
+            for (CompletableFuture<Chunk> future : futures) {
+                chunks.add(future.join());
+            }
+            return chunks;
+        });
+    }
+
+    private static List<Location> validate(List<Location> candidates, AreaBounds bounds) {
+        List<Location> valid = new ArrayList<>(candidates.size());
+        for (Location candidate : candidates) {
+            int blockY = candidate.getBlockY();
+            for (int offset = 0; offset <= VERTICAL_SEARCH; offset++) {
+                Location found = standingAt(candidate, blockY - offset, bounds);
+                if (found == null && offset > 0) {
+                    found = standingAt(candidate, blockY + offset, bounds);
+                }
+                if (found != null) {
+                    valid.add(found);
+                    break;
+                }
+            }
+        }
+        return List.copyOf(valid);
+    }
+
+    /**
+     * The candidate moved to the given feet height when a player fits there on solid, dry ground.
+     */
+    private static Location standingAt(Location candidate, int feetY, AreaBounds bounds) {
+        World world = candidate.getWorld();
+        if (feetY <= world.getMinHeight() || feetY + 1 >= world.getMaxHeight()) {
+            return null;
+        }
+        if (bounds != null && !bounds.contains(candidate.getX(), feetY, candidate.getZ())) {
+            return null;
+        }
+        Block feet = world.getBlockAt(candidate.getBlockX(), feetY, candidate.getBlockZ());
+        Block head = feet.getRelative(0, 1, 0);
+        Block ground = feet.getRelative(0, -1, 0);
+        if (!feet.isPassable() || feet.isLiquid() || !head.isPassable() || head.isLiquid()
+                || !ground.getType().isSolid()) {
+            return null;
+        }
+        Location location = candidate.clone();
+        location.setY(feetY);
+        return location;
+    }
+
+    private record ChunkKey(World world, int x, int z) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.tinyhunt.message;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.bukkit.ChatColor;
+
+/**
+ * A message pre-parsed into literal runs and {@code %key%} placeholder slots.
+ *
+ * <p>Colour codes are translated once at compile time, so rendering is a single pass over the segments into a
+ * builder sized from the literal length.</p>
+ */
+public final class MessageTemplate {
+
+    private static final int PLACEHOLDER_ESTIMATE = 8;
+
+    private final String[] literals;
+    private final String[] keys;
+    private final String plain;
+    private final int capacity;
+
+    private MessageTemplate(String[] literals, String[] keys) {
+        this.literals = literals;
+        this.keys = keys;
+        this.plain = keys.length == 0 ? literals[0] : null;
+        int literalLength = 0;
+        for (String literal : literals) {
+            literalLength += literal.length();
+        }
+        this.capacity = literalLength + keys.length * PLACEHOLDER_ESTIMATE;
+    }
+
+    /**
+     * Compiles a raw configuration value that uses {@code &} colour codes.
+     */
+    public static MessageTemplate compile(String raw) {
+        String translated = ChatColor.translateAlternateColorCodes('&', Objects.requireNonNull(raw, "raw"));
+        List<String> literals = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+        while (index < translated.length()) {
+            char current = translated.charAt(index);
+            if (current == '%') {
+                int end = translated.indexOf('%', index + 1);
+                if (end > index + 1 && isKey(translated, index + 1, end)) {
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    keys.add(translated.substring(index + 1, end));
+                    index = end + 1;
+                    continue;
+                }
+            }
+            literal.append(current);
+            index++;
+        }
+        literals.add(literal.toString());
+        return new MessageTemplate(literals.toArray(new String[0]), keys.toArray(new String[0]));
+    }
+
+    private static boolean isKey(String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '-' && c != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean hasPlaceholders() {
+        return keys.length > 0;
+    }
+
+    public String render() {
+        return render(Map.of());
+    }
+
+    /**
+     * Renders the template; placeholders without a value are left as {@code %key%}.
+     */
+    public String render(Map<String, ?> placeholders) {
+        if (plain != null) {
+            return plain;
+        }
+        StringBuilder builder = new StringBuilder(capacity);
+        builder.append(literals[0]);
+        for (int i = 0; i < keys.length; i++) {
+            String key = keys[i];
+            Object value = placeholders == null ? null : placeholders.get(key);
+            if (value != null) {
+                builder.append(value);
+            } else {
+                builder.append('%').append(key).append('%');
+            }
+            builder.append(literals[i + 1]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.tinyhunt.message;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.configuration.Configuration;
+import org.bukkit.configuration.ConfigurationSection;
+
+/**
+ * Resolves configurable player-facing messages, translating {@code &} colour codes and {@code %key%} placeholders.
+ *
+ * <p>Every string in the configuration is compiled into a {@link MessageTemplate} when {@link #load} runs (on
+ * plugin start and on every reload), and placeholder-free messages are additionally cached as Adventure
+ * components for inventory menus and action bars.</p>
+ */
+public final class Messages {
+
+    private static final LegacyComponentSerializer LEGACY = LegacyComponentSerializer.legacySection();
+
+    private volatile Map<String, MessageTemplate> templates = Map.of();
+    private final Map<String, Component> components = new ConcurrentHashMap<>();
+    private final Map<String, List<Component>> componentLines = new ConcurrentHashMap<>();
+
+    public void load(ConfigurationSection config) {
+        Objects.requireNonNull(config, "config");
+        Map<String, MessageTemplate> compiled = new HashMap<>();
+        compileAll(config, config, compiled);
+        if (config instanceof Configuration root && root.getDefaults() != null) {
+            compileAll(root.getDefaults(), config, compiled);
+        }
+        templates = compiled;
+        components.clear();
+        componentLines.clear();
+    }
+
+    private void compileAll(ConfigurationSection keys, ConfigurationSection config,
+            Map<String, MessageTemplate> compiled) {
+        for (String path : keys.getKeys(true)) {
+            if (compiled.containsKey(path) || config.isConfigurationSection(path)) {
+                continue;
+            }
+            String raw = config.getString(path);
+            if (raw != null) {
+                compiled.put(path, MessageTemplate.compile(raw));
+            }
+        }
+    }
+
+    /**
+     * Returns the compiled template for a path, compiling {@code fallback} when the path is not configured.
+     */
+    public MessageTemplate template(String path, String fallback) {
+        MessageTemplate template = templates.get(path);
+        return template != null ? template : MessageTemplate.compile(fallback);
+    }
+
+    public String get(String path) {
+        return template(path, path).render();
+    }
+
+    public String get(String path, Map<String, ?> placeholders) {
+        return template(path, path).render(placeholders);
+    }
+
+    /**
+     * The message as a cached component, for messages without placeholders.
+     */
+    public Component component(String path) {
+        return components.computeIfAbsent(path, key -> LEGACY.deserialize(get(key)));
+    }
+
+    public Component component(String path, Map<String, ?> placeholders) {
+        return LEGACY.deserialize(get(path, placeholders));
+    }
+
+    /**
+     * The message split on line breaks into cached components, as used for item lore.
+     */
+    public List<Component> componentLines(String path) {
+        return componentLines.computeIfAbsent(path, key -> {
+            String[] split = get(key).split("\\n");
+            List<Component> lines = new ArrayList<>();
+            if (split.length == 0) {
+                lines.add(Component.empty());
+            }
+            for (String line : split) {
+                lines.add(line.isEmpty() ? Component.empty() : LEGACY.deserialize(line));
+            }
+            return Collections.unmodifiableList(lines);
+        });
+    }
+}
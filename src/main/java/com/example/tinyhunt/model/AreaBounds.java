@@ -0,0 +1,139 @@
+package com.example.tinyhunt.model;
+
+import java.util.Objects;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+/**
+ * Immutable, precomputed cuboid bounds used on hot paths such as movement checks.
+ *
+ * <p>All queries work on primitive coordinates and a cached world reference, so checking or
+ * correcting a location never allocates.</p>
+ */
+public final class AreaBounds {
+
+    private final World world;
+    private final double minX;
+    private final double minY;
+    private final double minZ;
+    private final double maxX;
+    private final double maxY;
+    private final double maxZ;
+    private final int innerMinBlockX;
+    private final int innerMinBlockY;
+    private final int innerMinBlockZ;
+    private final int innerMaxBlockX;
+    private final int innerMaxBlockY;
+    private final int innerMaxBlockZ;
+
+    private AreaBounds(World world, double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        this.world = Objects.requireNonNull(world, "world");
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+        this.innerMinBlockX = (int) Math.ceil(minX);
+        this.innerMinBlockY = (int) Math.ceil(minY);
+        this.innerMinBlockZ = (int) Math.ceil(minZ);
+        this.innerMaxBlockX = (int) Math.floor(maxX) - 1;
+        this.innerMaxBlockY = (int) Math.floor(maxY) - 1;
+        this.innerMaxBlockZ = (int) Math.floor(maxZ) - 1;
+    }
+
+    /**
+     * Compiles the bounds spanned by two corners, or returns {@code null} when they are not in the same world.
+     */
+    public static AreaBounds of(Location first, Location second) {
+        if (first == null || second == null) {
+            return null;
+        }
+        World world = first.getWorld();
+        if (world == null || !world.equals(second.getWorld())) {
+            return null;
+        }
+        return new AreaBounds(world,
+                Math.min(first.getX(), second.getX()), Math.min(first.getY(), second.getY()),
+                Math.min(first.getZ(), second.getZ()),
+                Math.max(first.getX(), second.getX()), Math.max(first.getY(), second.getY()),
+                Math.max(first.getZ(), second.getZ()));
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public double getMinX() {
+        return minX;
+    }
+
+    public double getMinY() {
+        return minY;
+    }
+
+    public double getMinZ() {
+        return minZ;
+    }
+
+    public double getMaxX() {
+        return maxX;
+    }
+
+    public double getMaxY() {
+        return maxY;
+    }
+
+    public double getMaxZ() {
+        return maxZ;
+    }
+
+    public boolean contains(Location location) {
+        return location != null && location.getWorld() == world
+                && contains(location.getX(), location.getY(), location.getZ());
+    }
+
+    public boolean contains(double x, double y, double z) {
+        return x >= minX && x <= maxX
+                && y >= minY && y <= maxY
+                && z >= minZ && z <= maxZ;
+    }
+
+    /**
+     * Whether the whole block at the given coordinates lies inside the bounds, so any position within it does too.
+     */
+    public boolean containsBlock(int blockX, int blockY, int blockZ) {
+        return blockX >= innerMinBlockX && blockX <= innerMaxBlockX
+                && blockY >= innerMinBlockY && blockY <= innerMaxBlockY
+                && blockZ >= innerMinBlockZ && blockZ <= innerMaxBlockZ;
+    }
+
+    /**
+     * Moves the location onto the closest point inside the bounds, keeping its rotation.
+     * Locations in another world are moved to the centre of the area.
+     */
+    public void clampInPlace(Location location) {
+        if (location.getWorld() != world) {
+            location.setWorld(world);
+            location.setX(centerX());
+            location.setY(centerY());
+            location.setZ(centerZ());
+            return;
+        }
+        location.setX(Math.max(minX, Math.min(maxX, location.getX())));
+        location.setY(Math.max(minY, Math.min(maxY, location.getY())));
+        location.setZ(Math.max(minZ, Math.min(maxZ, location.getZ())));
+    }
+
+    public double centerX() {
+        return (minX + maxX) / 2.0;
+    }
+
+    public double centerY() {
+        return (minY + maxY) / 2.0;
+    }
+
+    public double centerZ() {
+        return (minZ + maxZ) / 2.0;
+    }
+}
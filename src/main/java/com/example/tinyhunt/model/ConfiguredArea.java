@@ -16,6 +16,7 @@ public final class ConfiguredArea {
 
     private Location pos1;
     private Location pos2;
+    private AreaBounds bounds;
 
     public Optional<Location> getPos1() {
         return Optional.ofNullable(pos1);
@@ -27,91 +28,65 @@ public final class ConfiguredArea {
 
     public void setPos1(Location location) {
         this.pos1 = Objects.requireNonNull(location, "location");
+        this.bounds = AreaBounds.of(pos1, pos2);
     }
 
     public void setPos2(Location location) {
         this.pos2 = Objects.requireNonNull(location, "location");
+        this.bounds = AreaBounds.of(pos1, pos2);
     }
 
     public boolean isComplete() {
-        return pos1 != null && pos2 != null && pos1.getWorld() != null && pos1.getWorld().equals(pos2.getWorld());
+        return bounds != null;
+    }
+
+    /**
+     * Returns the compiled bounds of this area, or {@code null} while it is not fully configured.
+     */
+    public AreaBounds getBounds() {
+        return bounds;
     }
 
     public World getWorld() {
-        if (!isComplete()) {
-            throw new IllegalStateException("Area is not fully configured");
-        }
-        return pos1.getWorld();
+        return requireBounds().getWorld();
     }
 
     public Vector getMinimum() {
-        if (!isComplete()) {
-            throw new IllegalStateException("Area is not fully configured");
-        }
-        return new Vector(Math.min(pos1.getX(), pos2.getX()), Math.min(pos1.getY(), pos2.getY()),
-                Math.min(pos1.getZ(), pos2.getZ()));
+        AreaBounds compiled = requireBounds();
+        return new Vector(compiled.getMinX(), compiled.getMinY(), compiled.getMinZ());
     }
 
     public Vector getMaximum() {
-        if (!isComplete()) {
-            throw new IllegalStateException("Area is not fully configured");
-        }
-        return new Vector(Math.max(pos1.getX(), pos2.getX()), Math.max(pos1.getY(), pos2.getY()),
-                Math.max(pos1.getZ(), pos2.getZ()));
+        AreaBounds compiled = requireBounds();
+        return new Vector(compiled.getMaxX(), compiled.getMaxY(), compiled.getMaxZ());
     }
 
     public Location getCenter() {
-        if (!isComplete()) {
-            throw new IllegalStateException("Area is not fully configured");
-        }
-        Vector min = getMinimum();
-        Vector max = getMaximum();
-        return new Location(getWorld(), (min.getX() + max.getX()) / 2.0, (min.getY() + max.getY()) / 2.0,
-                (min.getZ() + max.getZ()) / 2.0);
+        AreaBounds compiled = requireBounds();
+        return new Location(compiled.getWorld(), compiled.centerX(), compiled.centerY(), compiled.centerZ());
     }
 
     public Location getRandomLocation() {
-        if (!isComplete()) {
-            throw new IllegalStateException("Area is not fully configured");
-        }
-        Vector min = getMinimum();
-        Vector max = getMaximum();
-        double x = min.getX() + Math.random() * (max.getX() - min.getX());
-        double y = min.getY() + Math.random() * (max.getY() - min.getY());
-        double z = min.getZ() + Math.random() * (max.getZ() - min.getZ());
-        return new Location(getWorld(), x, y, z);
+        AreaBounds compiled = requireBounds();
+        double x = compiled.getMinX() + Math.random() * (compiled.getMaxX() - compiled.getMinX());
+        double y = compiled.getMinY() + Math.random() * (compiled.getMaxY() - compiled.getMinY());
+        double z = compiled.getMinZ() + Math.random() * (compiled.getMaxZ() - compiled.getMinZ());
+        return new Location(compiled.getWorld(), x, y, z);
     }
 
     public boolean contains(Location location) {
-        if (!isComplete() || location == null) {
-            return false;
-        }
-        if (location.getWorld() == null || !location.getWorld().equals(getWorld())) {
-            return false;
-        }
-        Vector min = getMinimum();
-        Vector max = getMaximum();
-        double x = location.getX();
-        double y = location.getY();
-        double z = location.getZ();
-        return x >= min.getX() && x <= max.getX()
-                && y >= min.getY() && y <= max.getY()
-                && z >= min.getZ() && z <= max.getZ();
+        AreaBounds compiled = bounds;
+        return compiled != null && compiled.contains(location);
     }
 
     public Location clamp(Location location) {
-        if (!isComplete() || location == null) {
+        AreaBounds compiled = bounds;
+        if (compiled == null || location == null) {
             throw new IllegalStateException("Area is not fully configured");
         }
-        if (location.getWorld() == null || !location.getWorld().equals(getWorld())) {
-            return getCenter();
-        }
-        Vector min = getMinimum();
-        Vector max = getMaximum();
-        double x = Math.max(min.getX(), Math.min(max.getX(), location.getX()));
-        double y = Math.max(min.getY(), Math.min(max.getY(), location.getY()));
-        double z = Math.max(min.getZ(), Math.min(max.getZ(), location.getZ()));
-        return new Location(getWorld(), x, y, z, location.getYaw(), location.getPitch());
+        Location clamped = location.clone();
+        compiled.clampInPlace(clamped);
+        return clamped;
     }
 
     public void save(ConfigurationSection section) {
@@ -151,6 +126,14 @@ public final class ConfiguredArea {
         return area;
     }
 
+    private AreaBounds requireBounds() {
+        AreaBounds compiled = bounds;
+        if (compiled == null) {
+            throw new IllegalStateException("Area is not fully configured");
+        }
+        return compiled;
+    }
+
     private static void setLocation(ConfigurationSection section, Location location) {
         for (String key : section.getKeys(false)) {
             section.set(key, null);
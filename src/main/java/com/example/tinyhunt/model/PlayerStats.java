@@ -0,0 +1,33 @@
+package com.example.tinyhunt.model;
+
+/**
+ * Lifetime statistics of one player, or the increment contributed by a single match.
+ */
+public record PlayerStats(int games, int wins, int catches, int conversions, long survivalTicks) {
+
+    public static final PlayerStats EMPTY = new PlayerStats(0, 0, 0, 0, 0L);
+
+    public PlayerStats plus(PlayerStats other) {
+        return new PlayerStats(games + other.games, wins + other.wins, catches + other.catches,
+                conversions + other.conversions, survivalTicks + other.survivalTicks);
+    }
+
+    public double winRate() {
+        return games == 0 ? 0.0D : (double) wins / games;
+    }
+
+    /**
+     * Matchmaking rating: a weighted score of wins, losses, catches and minutes survived around a base of 1000.
+     */
+    public int rating() {
+        long score = 1000L + 20L * wins - 10L * (games - wins) + 5L * catches + survivalTicks / 1200L;
+        return (int) Math.max(0L, Math.min(Integer.MAX_VALUE, score));
+    }
+
+    /**
+     * Average time survived as a runner per game, in ticks.
+     */
+    public long averageSurvivalTicks() {
+        return games == 0 ? 0L : survivalTicks / games;
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.tinyhunt.storage;
+
+import com.example.tinyhunt.model.ArenaDefinition;
+import java.io.File;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Stores every arena in its own small YAML file under {@code arenas/}, next to an index that lists the arena
+ * names and the active arena.
+ *
+ * <p>Only the index is read on reload; an {@link ArenaDefinition} is parsed the first time it is requested and
+ * saving an arena rewrites just that arena's file through the {@link WriteBehindWriter}.</p>
+ */
+public final class ArenaRepository {
+
+    private static final String DIRECTORY = "arenas";
+    private static final String INDEX_NAME = "index";
+    private static final String INDEX_FILE = INDEX_NAME + ".yml";
+    private static final Pattern VALID_NAME = Pattern.compile("[a-z0-9_-]+");
+    /**
+     * Names written to the index by earlier versions, which still allowed upper case.
+     */
+    private static final Pattern STORED_NAME = Pattern.compile("[A-Za-z0-9_-]+");
+
+    private final Plugin plugin;
+    private final WriteBehindWriter writer;
+    private final Path directory;
+    private final Set<String> names = new LinkedHashSet<>();
+    private final Map<String, ArenaDefinition> loaded = new HashMap<>();
+    private String activeArena;
+
+    public ArenaRepository(Plugin plugin, WriteBehindWriter writer) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin");
+        this.writer = Objects.requireNonNull(writer, "writer");
+        this.directory = plugin.getDataFolder().toPath().resolve(DIRECTORY);
+    }
+
+    /**
+     * Re-reads the index and forgets every loaded arena. When no index exists yet, arenas found in the legacy
+     * {@code arenas} section of {@code config.yml} are moved into their own files.
+     *
+     * @return {@code true} if every legacy arena was migrated and the legacy section can be removed
+     */
+    public boolean reload(ConfigurationSection legacyConfig) {
+        names.clear();
+        loaded.clear();
+        activeArena = null;
+        File indexFile = directory.resolve(INDEX_FILE).toFile();
+        if (indexFile.isFile()) {
+            YamlConfiguration index = YamlConfiguration.loadConfiguration(indexFile);
+            for (String name : index.getStringList("arenas")) {
+                if (isStoredName(name)) {
+                    names.add(name);
+                }
+            }
+            activeArena = index.getString("active");
+            normalizeActive();
+            return false;
+        }
+        return migrate(legacyConfig);
+    }
+
+    private boolean migrate(ConfigurationSection legacyConfig) {
+        ConfigurationSection legacyArenas = legacyConfig == null ? null
+                : legacyConfig.getConfigurationSection("arenas");
+        if (legacyArenas == null || legacyArenas.getKeys(false).isEmpty()) {
+            return false;
+        }
+        Map<String, String> renamed = new HashMap<>();
+        boolean skipped = false;
+        for (String legacyName : legacyArenas.getKeys(false)) {
+            String name = isValidName(legacyName) ? legacyName : uniqueName(sanitizeName(legacyName));
+            if (name == null || names.contains(name)) {
+                plugin.getLogger().warning("Could not migrate arena '" + legacyName + "': no usable file name.");
+                skipped = true;
+                continue;
+            }
+            if (!name.equals(legacyName)) {
+                plugin.getLogger().warning("Arena '" + legacyName + "' was renamed to '" + name
+                        + "' during migration.");
+                renamed.put(legacyName, name);
+            }
+            ArenaDefinition definition = ArenaDefinition.load(name,
+                    legacyArenas.getConfigurationSection(legacyName));
+            names.add(name);
+            loaded.put(name, definition);
+            save(definition);
+        }
+        String legacyActive = legacyConfig.getString("active-arena");
+        activeArena = renamed.getOrDefault(legacyActive, legacyActive);
+        normalizeActive();
+        saveIndex();
+        plugin.getLogger().info("Moved " + names.size() + " arena(s) from config.yml to " + DIRECTORY + "/.");
+        if (skipped) {
+            // Leave the legacy section in config.yml so the arenas that could not be moved are not lost.
+            plugin.getLogger().warning("The legacy 'arenas' section was kept in config.yml; move the arenas "
+                    + "that were not migrated by hand.");
+            return false;
+        }
+        return true;
+    }
+
+    private String uniqueName(String base) {
+        if (base == null || (isValidName(base) && !names.contains(base))) {
+            return base;
+        }
+        int suffix = 2;
+        while (names.contains(base + "-" + suffix)) {
+            suffix++;
+        }
+        return base + "-" + suffix;
+    }
+
+    /**
+     * Turns free-form input into a valid arena name: accents stripped, lower case, and every other character
+     * replaced by a single hyphen; {@code null} when nothing usable remains.
+     */
+    public static String sanitizeName(String input) {
+        if (input == null) {
+            return null;
+        }
+        String trimmed = input.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        String normalized = Normalizer.normalize(trimmed, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "");
+        String sanitized = normalized.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9_-]", "-");
+        sanitized = sanitized.replaceAll("-+", "-");
+        sanitized = stripHyphen(sanitized);
+        if (sanitized.isEmpty()) {
+            return null;
+        }
+        return sanitized;
+    }
+
+    private static String stripHyphen(String input) {
+        int start = 0;
+        int end = input.length();
+        while (start < end && input.charAt(start) == '-') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) == '-') {
+            end--;
+        }
+        return input.substring(start, end);
+    }
+
+    private void normalizeActive() {
+        if (activeArena == null || !names.contains(activeArena)) {
+            activeArena = names.isEmpty() ? null : names.iterator().next();
+        }
+    }
+
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(names);
+    }
+
+    public boolean contains(String name) {
+        return names.contains(name);
+    }
+
+    /**
+     * Returns the arena, reading its file on first use, or {@code null} when no arena has that name.
+     */
+    public ArenaDefinition get(String name) {
+        if (name == null || !names.contains(name)) {
+            return null;
+        }
+        ArenaDefinition definition = loaded.get(name);
+        if (definition == null) {
+            File file = arenaFile(name).toFile();
+            definition = file.isFile()
+                    ? ArenaDefinition.load(name, YamlConfiguration.loadConfiguration(file))
+                    : new ArenaDefinition(name);
+            loaded.put(name, definition);
+        }
+        return definition;
+    }
+
+    public Optional<ArenaDefinition> find(String name) {
+        return Optional.ofNullable(get(name));
+    }
+
+    /**
+     * Registers a new, empty arena; returns {@code null} if the name is taken or cannot be used as a file name.
+     */
+    public ArenaDefinition create(String name) {
+        if (!isValidName(name) || names.contains(name)) {
+            return null;
+        }
+        ArenaDefinition definition = new ArenaDefinition(name);
+        names.add(name);
+        loaded.put(name, definition);
+        normalizeActive();
+        save(definition);
+        saveIndex();
+        return definition;
+    }
+
+    /**
+     * Schedules the arena's own file to be rewritten; other arenas and the index are untouched.
+     */
+    public void save(ArenaDefinition definition) {
+        Objects.requireNonNull(definition, "definition");
+        writer.markDirty(arenaFile(definition.getName()), () -> serialize(definition));
+    }
+
+    public String getActiveArena() {
+        return activeArena;
+    }
+
+    public boolean setActiveArena(String name) {
+        if (!names.contains(name)) {
+            return false;
+        }
+        activeArena = name;
+        saveIndex();
+        return true;
+    }
+
+    private void saveIndex() {
+        writer.markDirty(directory.resolve(INDEX_FILE), this::serializeIndex);
+    }
+
+    private String serializeIndex() {
+        YamlConfiguration index = new YamlConfiguration();
+        index.set("active", activeArena);
+        index.set("arenas", new ArrayList<>(names));
+        return index.saveToString();
+    }
+
+    private static String serialize(ArenaDefinition definition) {
+        YamlConfiguration yaml = new YamlConfiguration();
+        definition.save(yaml);
+        return yaml.saveToString();
+    }
+
+    private Path arenaFile(String name) {
+        return directory.resolve(name + ".yml");
+    }
+
+    /**
+     * Whether a new arena may use the name: lower case only, so two names never share a file on a
+     * case-insensitive filesystem, and never the name of the index file.
+     */
+    public static boolean isValidName(String name) {
+        return name != null && VALID_NAME.matcher(name).matches() && !name.equals(INDEX_NAME);
+    }
+
+    private static boolean isStoredName(String name) {
+        return name != null && STORED_NAME.matcher(name).matches() && !name.equalsIgnoreCase(INDEX_NAME);
+    }
+}
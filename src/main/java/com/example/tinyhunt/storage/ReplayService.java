@@ -0,0 +1,158 @@
+package com.example.tinyhunt.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Opens match replay logs in {@code plugins/TinyHunt/replays/} and drains them on one background thread.
+ *
+ * <p>After a replay is completed the same thread deletes the oldest finished logs beyond the configured
+ * count, so the folder does not grow without bound.</p>
+ */
+public final class ReplayService {
+
+    private static final int RING_CAPACITY = 8192;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long DRAIN_PERIOD_MILLIS = 250L;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10L;
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Plugin plugin;
+    private final Path directory;
+    private final int keep;
+    private final ConcurrentLinkedQueue<ReplaySession> sessions = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService executor;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    /**
+     * @param keep how many finished replays to retain, oldest deleted first; {@code 0} keeps them all
+     */
+    public ReplayService(Plugin plugin, int keep) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin");
+        this.directory = plugin.getDataFolder().toPath().resolve("replays");
+        this.keep = Math.max(0, keep);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, plugin.getName() + "-replays");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::drainAll, DRAIN_PERIOD_MILLIS, DRAIN_PERIOD_MILLIS,
+                TimeUnit.MILLISECONDS);
+        executor.execute(this::prune);
+    }
+
+    /**
+     * Starts recording a match; the file itself is created by the writer thread.
+     */
+    public ReplaySession open(String arenaName) {
+        String fileName = arenaName.replaceAll("[^A-Za-z0-9_-]", "_") + "-"
+                + LocalDateTime.now().format(FILE_TIME) + "-" + Long.toHexString(System.nanoTime() & 0xFFFFL)
+                + ".thr";
+        ReplaySession session = new ReplaySession(arenaName, directory.resolve(fileName), RING_CAPACITY);
+        sessions.add(session);
+        return session;
+    }
+
+    /**
+     * Finishes every open recording and waits for the writer to put them on disk.
+     */
+    public void close() {
+        for (ReplaySession session : sessions) {
+            session.finish(-1);
+        }
+        executor.execute(this::drainAll);
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("TinyHunt replay writer did not finish within "
+                        + SHUTDOWN_TIMEOUT_SECONDS + " seconds; some replays may be truncated.");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainAll() {
+        if (sessions.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException ex) {
+            plugin.getLogger().log(Level.SEVERE, "Unable to create " + directory, ex);
+            return;
+        }
+        boolean completed = false;
+        Iterator<ReplaySession> iterator = sessions.iterator();
+        while (iterator.hasNext()) {
+            ReplaySession session = iterator.next();
+            try {
+                if (session.drain(buffer)) {
+                    iterator.remove();
+                    completed = true;
+                }
+            } catch (IOException | RuntimeException ex) {
+                buffer.clear();
+                session.abort();
+                iterator.remove();
+                plugin.getLogger().log(Level.SEVERE, "Unable to write replay of " + session.getArenaName(), ex);
+            }
+        }
+        if (completed) {
+            prune();
+        }
+    }
+
+    private void prune() {
+        if (keep == 0 || !Files.isDirectory(directory)) {
+            return;
+        }
+        Set<Path> open = new HashSet<>();
+        for (ReplaySession session : sessions) {
+            open.add(session.getTarget());
+        }
+        List<StoredReplay> finished = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.thr")) {
+            for (Path file : files) {
+                if (!open.contains(file)) {
+                    finished.add(new StoredReplay(file, Files.getLastModifiedTime(file).toMillis()));
+                }
+            }
+        } catch (IOException ex) {
+            plugin.getLogger().log(Level.WARNING, "Unable to list " + directory, ex);
+            return;
+        }
+        if (finished.size() <= keep) {
+            return;
+        }
+        finished.sort(Comparator.comparingLong(StoredReplay::modifiedMillis));
+        for (StoredReplay replay : finished.subList(0, finished.size() - keep)) {
+            try {
+                Files.deleteIfExists(replay.file());
+            } catch (IOException ex) {
+                plugin.getLogger().log(Level.WARNING, "Unable to delete old replay " + replay.file(), ex);
+            }
+        }
+    }
+
+    private record StoredReplay(Path file, long modifiedMillis) {
+    }
+}
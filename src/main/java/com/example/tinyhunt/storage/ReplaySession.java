@@ -0,0 +1,249 @@
+package com.example.tinyhunt.storage;
+
+import com.example.tinyhunt.model.PlayerRole;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Event stream of one recorded match.
+ *
+ * <p>The main thread appends fixed-size events to a preallocated single-producer ring and never blocks: when
+ * the writer falls behind by a whole ring, new events are dropped and counted. The writer thread drains the
+ * ring into a compact log: tick deltas and player ids are varints, a player's UUID is only written with their
+ * first join, and positions are three floats.</p>
+ *
+ * <p>Log layout: magic {@code THRP}, format version byte, start time in epoch millis, arena name (UTF-8 with a
+ * varint length), then records of {@code type, tick delta, player id, payload} up to an {@code END} record
+ * carrying the end reason and the number of dropped events.</p>
+ */
+public final class ReplaySession {
+
+    static final byte FORMAT_VERSION = 1;
+    static final byte JOIN = 1;
+    static final byte LEAVE = 2;
+    static final byte ROLE = 3;
+    static final byte HIT = 4;
+    static final byte REVEAL = 5;
+    static final byte POSITION = 6;
+    static final byte END = 7;
+
+    private static final int SLOT_WORDS = 4;
+    private static final byte[] MAGIC = {'T', 'H', 'R', 'P'};
+
+    private final String arenaName;
+    private final Path target;
+    private final long startedMillis;
+    private final int capacity;
+    private final long[] ring;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final Map<UUID, Integer> playerIds = new HashMap<>();
+    private volatile boolean finished;
+    private volatile int endReason;
+    private long dropped;
+    private FileChannel channel;
+    private long lastTick = -1L;
+
+    ReplaySession(String arenaName, Path target, int capacity) {
+        this.arenaName = Objects.requireNonNull(arenaName, "arenaName");
+        this.target = Objects.requireNonNull(target, "target");
+        this.startedMillis = System.currentTimeMillis();
+        this.capacity = capacity;
+        this.ring = new long[capacity * SLOT_WORDS];
+    }
+
+    public String getArenaName() {
+        return arenaName;
+    }
+
+    Path getTarget() {
+        return target;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public void recordJoin(long tick, UUID playerId, PlayerRole role) {
+        Integer id = playerIds.get(playerId);
+        if (id == null) {
+            id = playerIds.size();
+            playerIds.put(playerId, id);
+        }
+        append(tick, JOIN, id, role.ordinal(), playerId.getMostSignificantBits(),
+                playerId.getLeastSignificantBits());
+    }
+
+    public void recordLeave(long tick, UUID playerId) {
+        Integer id = playerIds.get(playerId);
+        if (id != null) {
+            append(tick, LEAVE, id, 0, 0L, 0L);
+        }
+    }
+
+    public void recordRole(long tick, UUID playerId, PlayerRole role) {
+        Integer id = playerIds.get(playerId);
+        if (id != null) {
+            append(tick, ROLE, id, role.ordinal(), 0L, 0L);
+        }
+    }
+
+    public void recordHit(long tick, UUID hunterId, UUID targetId) {
+        Integer hunter = playerIds.get(hunterId);
+        Integer victim = playerIds.get(targetId);
+        if (hunter != null && victim != null) {
+            append(tick, HIT, hunter, victim, 0L, 0L);
+        }
+    }
+
+    public void recordReveal(long tick) {
+        append(tick, REVEAL, 0, 0, 0L, 0L);
+    }
+
+    public void recordPosition(long tick, UUID playerId, double x, double y, double z) {
+        Integer id = playerIds.get(playerId);
+        if (id != null) {
+            long yz = (long) Float.floatToRawIntBits((float) y) << 32
+                    | Float.floatToRawIntBits((float) z) & 0xFFFFFFFFL;
+            append(tick, POSITION, id, Float.floatToRawIntBits((float) x), yz, 0L);
+        }
+    }
+
+    /**
+     * Stops recording; the writer closes the log once everything recorded so far is on disk.
+     */
+    public void finish(int reason) {
+        if (!finished) {
+            endReason = reason;
+            finished = true;
+        }
+    }
+
+    private void append(long tick, byte type, int subject, int other, long payloadA, long payloadB) {
+        if (finished) {
+            return;
+        }
+        long position = head.get();
+        if (position - tail.getAcquire() >= capacity) {
+            dropped++;
+            return;
+        }
+        int slot = (int) (position % capacity) * SLOT_WORDS;
+        ring[slot] = tick;
+        ring[slot + 1] = (long) type << 56 | (long) (subject & 0xFFFFFF) << 32 | other & 0xFFFFFFFFL;
+        ring[slot + 2] = payloadA;
+        ring[slot + 3] = payloadB;
+        head.setRelease(position + 1);
+    }
+
+    /**
+     * Encodes every published event into the log; called only from the writer thread.
+     *
+     * @return {@code true} once the session is finished and its log closed
+     */
+    boolean drain(ByteBuffer buffer) throws IOException {
+        boolean closing = finished;
+        if (channel == null) {
+            channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            writeHeader(buffer);
+        }
+        long end = head.getAcquire();
+        long position = tail.get();
+        while (position < end) {
+            if (buffer.remaining() < 64) {
+                flush(buffer);
+            }
+            int slot = (int) (position % capacity) * SLOT_WORDS;
+            encode(buffer, ring[slot], ring[slot + 1], ring[slot + 2], ring[slot + 3]);
+            position++;
+            tail.setRelease(position);
+        }
+        if (closing) {
+            if (buffer.remaining() < 32) {
+                flush(buffer);
+            }
+            buffer.put(END);
+            putVarLong(buffer, 0L);
+            putVarLong(buffer, 0L);
+            buffer.put((byte) endReason);
+            // Read after the main thread stopped appending, so the count is final.
+            putVarLong(buffer, dropped);
+        }
+        flush(buffer);
+        if (closing) {
+            channel.close();
+        }
+        return closing;
+    }
+
+    void abort() {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException ignored) {
+            // Already failing; the caller reports the original error.
+        }
+    }
+
+    private void writeHeader(ByteBuffer buffer) {
+        byte[] name = arenaName.getBytes(StandardCharsets.UTF_8);
+        buffer.put(MAGIC);
+        buffer.put(FORMAT_VERSION);
+        buffer.putLong(startedMillis);
+        putVarLong(buffer, name.length);
+        buffer.put(name);
+    }
+
+    private void encode(ByteBuffer buffer, long tick, long header, long payloadA, long payloadB) {
+        byte type = (byte) (header >>> 56);
+        int subject = (int) (header >>> 32) & 0xFFFFFF;
+        int other = (int) header;
+        buffer.put(type);
+        putVarLong(buffer, lastTick < 0L ? 0L : tick - lastTick);
+        lastTick = tick;
+        putVarLong(buffer, subject);
+        switch (type) {
+            case JOIN -> {
+                buffer.put((byte) other);
+                buffer.putLong(payloadA);
+                buffer.putLong(payloadB);
+            }
+            case ROLE -> buffer.put((byte) other);
+            case HIT -> putVarLong(buffer, other);
+            case POSITION -> {
+                buffer.putInt(other);
+                buffer.putInt((int) (payloadA >>> 32));
+                buffer.putInt((int) payloadA);
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void flush(ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0L) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.tinyhunt.storage;
+
+import com.example.tinyhunt.model.PlayerStats;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Player statistics stored as one append-only file per player in {@code plugins/TinyHunt/stats/}.
+ *
+ * <p>Every line of a file is the increment of one match; a profile is the sum of its lines, and files with
+ * many lines are compacted to one when read. All disk access runs on a single background thread, so a
+ * match's increments are appended in one batch and a profile read queued after them already includes them.
+ * Profiles are cached on the main thread in a bounded LRU map.</p>
+ */
+public final class StatsRepository {
+
+    private static final int COMPACT_THRESHOLD = 32;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10L;
+
+    private final Plugin plugin;
+    private final Path directory;
+    private final ExecutorService executor;
+    private final Executor mainThread;
+    private final Map<UUID, CompletableFuture<PlayerStats>> cache;
+
+    public StatsRepository(Plugin plugin, int cacheSize) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin");
+        this.directory = plugin.getDataFolder().toPath().resolve("stats");
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, plugin.getName() + "-stats");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.mainThread = task -> Bukkit.getScheduler().runTask(plugin, task);
+        int capacity = Math.max(16, cacheSize);
+        this.cache = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, CompletableFuture<PlayerStats>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the player's profile, reading it in the background unless it is cached or already loading.
+     */
+    public CompletableFuture<PlayerStats> load(UUID playerId) {
+        return cache.computeIfAbsent(playerId,
+                uuid -> CompletableFuture.supplyAsync(() -> read(uuid), executor));
+    }
+
+    /**
+     * Runs the action on the main thread with the player's profile; immediately when it is cached.
+     */
+    public void withProfile(UUID playerId, Consumer<PlayerStats> action) {
+        CompletableFuture<PlayerStats> profile = load(playerId);
+        if (profile.isDone() && !profile.isCompletedExceptionally()) {
+            action.accept(profile.join());
+            return;
+        }
+        profile.whenCompleteAsync((stats, error) -> {
+            if (error != null) {
+                plugin.getLogger().log(Level.WARNING, "Unable to load statistics of " + playerId, error);
+                action.accept(PlayerStats.EMPTY);
+            } else {
+                action.accept(stats);
+            }
+        }, mainThread);
+    }
+
+    /**
+     * Adds the increments of a finished match to the cached profiles and appends them to disk in one task.
+     */
+    public void record(Map<UUID, PlayerStats> increments) {
+        if (increments.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<UUID, PlayerStats> entry : increments.entrySet()) {
+            PlayerStats increment = entry.getValue();
+            // A read already queued ran before this append, so its result still needs the increment.
+            cache.computeIfPresent(entry.getKey(),
+                    (uuid, profile) -> profile.thenApply(stats -> stats.plus(increment)));
+        }
+        Map<UUID, PlayerStats> batch = Map.copyOf(increments);
+        executor.execute(() -> append(batch));
+    }
+
+    /**
+     * Reads every stored profile in the background and hands them to the consumer on the main thread.
+     */
+    public void scanAll(Consumer<Map<UUID, PlayerStats>> consumer) {
+        CompletableFuture.supplyAsync(this::readAll, executor).whenCompleteAsync((profiles, error) -> {
+            if (error != null) {
+                plugin.getLogger().log(Level.SEVERE, "Unable to scan " + directory, error);
+            } else {
+                consumer.accept(profiles);
+            }
+        }, mainThread);
+    }
+
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("TinyHunt statistics did not finish saving within "
+                        + SHUTDOWN_TIMEOUT_SECONDS + " seconds.");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void append(Map<UUID, PlayerStats> batch) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException ex) {
+            plugin.getLogger().log(Level.SEVERE, "Unable to create " + directory, ex);
+            return;
+        }
+        for (Map.Entry<UUID, PlayerStats> entry : batch.entrySet()) {
+            Path file = file(entry.getKey());
+            try {
+                Files.writeString(file, format(entry.getValue()), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException ex) {
+                plugin.getLogger().log(Level.SEVERE, "Unable to save statistics to " + file, ex);
+            }
+        }
+    }
+
+    private Map<UUID, PlayerStats> readAll() {
+        Map<UUID, PlayerStats> profiles = new HashMap<>();
+        if (!Files.isDirectory(directory)) {
+            return profiles;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.log")) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                UUID playerId;
+                try {
+                    playerId = UUID.fromString(fileName.substring(0, fileName.length() - ".log".length()));
+                } catch (IllegalArgumentException ex) {
+                    continue;
+                }
+                profiles.put(playerId, read(playerId));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return profiles;
+    }
+
+    private PlayerStats read(UUID playerId) {
+        Path file = file(playerId);
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException ex) {
+            return PlayerStats.EMPTY;
+        } catch (IOException ex) {
+            plugin.getLogger().log(Level.SEVERE, "Unable to read statistics from " + file, ex);
+            return PlayerStats.EMPTY;
+        }
+        PlayerStats total = PlayerStats.EMPTY;
+        for (String line : lines) {
+            PlayerStats parsed = parse(line);
+            if (parsed != null) {
+                total = total.plus(parsed);
+            }
+        }
+        if (lines.size() > COMPACT_THRESHOLD) {
+            try {
+                WriteBehindWriter.writeAtomically(file, format(total));
+            } catch (IOException ex) {
+                plugin.getLogger().log(Level.WARNING, "Unable to compact " + file, ex);
+            }
+        }
+        return total;
+    }
+
+    private Path file(UUID playerId) {
+        return directory.resolve(playerId + ".log");
+    }
+
+    private static String format(PlayerStats stats) {
+        return stats.games() + " " + stats.wins() + " " + stats.catches() + " " + stats.conversions() + " "
+                + stats.survivalTicks() + "\n";
+    }
+
+    private static PlayerStats parse(String line) {
+        String[] fields = line.trim().split(" ");
+        if (fields.length < 5) {
+            return null;
+        }
+        try {
+            return new PlayerStats(Integer.parseInt(fields[0]), Integer.parseInt(fields[1]),
+                    Integer.parseInt(fields[2]), Integer.parseInt(fields[3]), Long.parseLong(fields[4]));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
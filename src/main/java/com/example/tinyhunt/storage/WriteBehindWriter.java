@@ -0,0 +1,136 @@
+package com.example.tinyhunt.storage;
+
+import com.example.tinyhunt.game.GameLoop;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Write-behind persistence for plugin files.
+ *
+ * <p>Callers mark a file dirty together with a supplier of its contents. Edits arriving within the coalescing
+ * delay share one snapshot, taken on the main thread when the delay expires, and the file is then written by a
+ * single background thread to a temporary sibling that atomically replaces the target.</p>
+ */
+public final class WriteBehindWriter {
+
+    private static final long COALESCE_DELAY_TICKS = 40L;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10L;
+
+    private final Plugin plugin;
+    private final GameLoop loop;
+    private final Map<Path, Supplier<String>> pending = new LinkedHashMap<>();
+    private final ExecutorService executor;
+    private GameLoop.Task flushTask;
+
+    public WriteBehindWriter(Plugin plugin, GameLoop loop) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin");
+        this.loop = Objects.requireNonNull(loop, "loop");
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, plugin.getName() + "-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules the target to be rewritten with whatever the supplier returns at flush time.
+     * Marking the same file again before the flush only replaces its supplier.
+     */
+    public void markDirty(Path target, Supplier<String> snapshot) {
+        pending.put(Objects.requireNonNull(target, "target"), Objects.requireNonNull(snapshot, "snapshot"));
+        if (flushTask == null) {
+            flushTask = loop.runLater(COALESCE_DELAY_TICKS, this::flush);
+        }
+    }
+
+    public boolean hasPendingWrites() {
+        return !pending.isEmpty();
+    }
+
+    /**
+     * Snapshots every dirty file now and hands them to the writer thread.
+     */
+    public void flush() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        for (Map.Entry<Path, Supplier<String>> entry : pending.entrySet()) {
+            Path target = entry.getKey();
+            String contents = entry.getValue().get();
+            executor.execute(() -> write(target, contents));
+        }
+        pending.clear();
+    }
+
+    /**
+     * Flushes and blocks until every queued write has reached the disk, for callers about to read the files back.
+     */
+    public void flushAndWait() {
+        flush();
+        Future<?> barrier = executor.submit(() -> { });
+        try {
+            barrier.get(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException ex) {
+            plugin.getLogger().log(Level.WARNING, "Timed out waiting for pending TinyHunt writes", ex);
+        }
+    }
+
+    /**
+     * Flushes pending edits and stops the writer thread once they are on disk.
+     */
+    public void close() {
+        flush();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("TinyHunt writer did not finish within "
+                        + SHUTDOWN_TIMEOUT_SECONDS + " seconds; some edits may be lost.");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(Path target, String contents) {
+        try {
+            writeAtomically(target, contents);
+        } catch (IOException ex) {
+            plugin.getLogger().log(Level.SEVERE, "Unable to save " + target, ex);
+        }
+    }
+
+    static void writeAtomically(Path target, String contents) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            Files.writeString(temporary, contents, StandardCharsets.UTF_8);
+            try {
+                Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+}
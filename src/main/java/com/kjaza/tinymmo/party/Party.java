@@ -1,21 +1,45 @@
 package com.kjaza.tinymmo.party;
 
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
+/**
+ * Immutable snapshot of a party. Membership changes produce a new snapshot, so readers on the async chat
+ * threads can iterate {@link #members} without locking.
+ */
 public class Party {
     public final UUID owner;
     public final Set<UUID> members;
 
     public Party(UUID owner) {
+        this(owner, Set.of(owner));
+    }
+
+    private Party(UUID owner, Set<UUID> members) {
         this.owner = owner;
-        this.members = new HashSet<>();
-        this.members.add(owner);
+        this.members = members;
+    }
+
+    public Party withMember(UUID member) {
+        if (members.contains(member)) {
+            return this;
+        }
+        Set<UUID> next = new HashSet<>(members);
+        next.add(member);
+        return new Party(owner, Set.copyOf(next));
+    }
+
+    public Party withoutMember(UUID member) {
+        if (!members.contains(member)) {
+            return this;
+        }
+        Set<UUID> next = new HashSet<>(members);
+        next.remove(member);
+        return new Party(owner, Set.copyOf(next));
     }
 
     public Set<UUID> membersView() {
-        return Collections.unmodifiableSet(members);
+        return members;
     }
 }
@@ -1,6 +1,5 @@
 package com.kjaza.tinymmo.party;
 
-import org.bukkit.Bukkit;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -8,9 +7,11 @@ import org.bukkit.entity.Player;
 
 public class PartyChatCommand implements CommandExecutor {
     private final PartyManager pm;
+    private final PartyChatPipeline pipeline;
 
-    public PartyChatCommand(PartyManager pm) {
+    public PartyChatCommand(PartyManager pm, PartyChatPipeline pipeline) {
         this.pm = pm;
+        this.pipeline = pipeline;
     }
 
     @Override
@@ -29,14 +30,7 @@ public class PartyChatCommand implements CommandExecutor {
             return true;
         }
 
-        String msg = String.join(" ", args);
-        String line = "§9[Party] §a" + p.getName() + "§7: §f" + msg;
-        for (var id : party.members) {
-            Player pl = Bukkit.getPlayer(id);
-            if (pl != null) {
-                pl.sendMessage(line);
-            }
-        }
+        pipeline.submit(p, party, String.join(" ", args));
         return true;
     }
 }
@@ -1,17 +1,19 @@
 package com.kjaza.tinymmo.party;
 
-import org.bukkit.Bukkit;
-import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.AsyncPlayerChatEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 
 public class PartyChatListener implements Listener {
     private final PartyManager pm;
+    private final PartyChatPipeline pipeline;
 
-    public PartyChatListener(PartyManager pm) {
+    public PartyChatListener(PartyManager pm, PartyChatPipeline pipeline) {
         this.pm = pm;
+        this.pipeline = pipeline;
     }
 
     @EventHandler(priority = EventPriority.HIGHEST)
@@ -30,12 +32,16 @@ public class PartyChatListener implements Listener {
         if (clean.isEmpty()) {
             return;
         }
-        String line = "§9[Party] §a" + e.getPlayer().getName() + "§7: §f" + clean;
-        for (var id : party.members) {
-            Player pl = Bukkit.getPlayer(id);
-            if (pl != null) {
-                pl.sendMessage(line);
-            }
-        }
+        pipeline.submit(e.getPlayer(), party, clean);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent e) {
+        pipeline.trackOnline(e.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent e) {
+        pipeline.forget(e.getPlayer().getUniqueId());
     }
 }
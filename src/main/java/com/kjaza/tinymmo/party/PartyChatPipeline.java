@@ -0,0 +1,138 @@
+package com.kjaza.tinymmo.party;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Delivers party chat off the main thread. Each message is formatted once into a {@link Component} by the
+ * thread that submits it, rate limited per party, and fanned out to the online members in batches by a single
+ * worker thread.
+ */
+public class PartyChatPipeline {
+    private static final int MAX_BATCH = 64;
+    private static final int RATE_WINDOW_PRUNE_THRESHOLD = 256;
+    private static final int RATE_LIMIT_MESSAGES = 5;
+    private static final long RATE_LIMIT_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(3);
+    private static final Component PARTY_TAG = Component.text("[Party] ", NamedTextColor.BLUE);
+    private static final Component SEPARATOR = Component.text(": ", NamedTextColor.GRAY);
+    private static final Component RATE_LIMITED =
+            Component.text("Il party sta scrivendo troppo velocemente, riprova tra poco.", NamedTextColor.RED);
+
+    private final Plugin plugin;
+    private final BlockingQueue<PartyMessage> queue = new LinkedBlockingQueue<>();
+    private final Map<UUID, Player> online = new ConcurrentHashMap<>();
+    private final Map<UUID, Component> prefixes = new ConcurrentHashMap<>();
+    private final Map<UUID, RateWindow> rateWindows = new ConcurrentHashMap<>();
+    private Thread worker;
+
+    public PartyChatPipeline(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    public void start() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            trackOnline(player);
+        }
+        worker = new Thread(this::drain, plugin.getName() + "-party-chat");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public void stop() {
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+        queue.clear();
+    }
+
+    public void trackOnline(Player player) {
+        online.put(player.getUniqueId(), player);
+    }
+
+    public void forget(UUID player) {
+        online.remove(player);
+        prefixes.remove(player);
+    }
+
+    /**
+     * Queues a chat line for every member of the party; safe to call from the main thread or async chat threads.
+     *
+     * @return {@code false} if the party exceeded its rate limit and the message was dropped
+     */
+    public boolean submit(Player sender, Party party, String message) {
+        if (!tryAcquire(party.owner)) {
+            sender.sendMessage(RATE_LIMITED);
+            return false;
+        }
+        Component prefix = prefixes.computeIfAbsent(sender.getUniqueId(),
+                id -> PARTY_TAG.append(Component.text(sender.getName(), NamedTextColor.GREEN)).append(SEPARATOR));
+        Component line = prefix.append(Component.text(message, NamedTextColor.WHITE));
+        queue.add(new PartyMessage(party, line));
+        return true;
+    }
+
+    private boolean tryAcquire(UUID owner) {
+        long now = System.nanoTime();
+        RateWindow window = rateWindows.compute(owner, (id, current) -> {
+            if (current == null || now - current.startedAt >= RATE_LIMIT_WINDOW_NANOS) {
+                return new RateWindow(now, 1);
+            }
+            return new RateWindow(current.startedAt, current.count + 1);
+        });
+        return window.count <= RATE_LIMIT_MESSAGES;
+    }
+
+    private void drain() {
+        List<PartyMessage> batch = new ArrayList<>(MAX_BATCH);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, MAX_BATCH - 1);
+            for (PartyMessage message : batch) {
+                deliver(message);
+            }
+            batch.clear();
+            if (rateWindows.size() > RATE_WINDOW_PRUNE_THRESHOLD) {
+                long now = System.nanoTime();
+                rateWindows.values().removeIf(window -> now - window.startedAt >= RATE_LIMIT_WINDOW_NANOS);
+            }
+        }
+    }
+
+    private void deliver(PartyMessage message) {
+        for (UUID id : message.party().members) {
+            Player player = online.get(id);
+            if (player == null) {
+                continue;
+            }
+            try {
+                player.sendMessage(message.line());
+            } catch (RuntimeException ex) {
+                plugin.getLogger().log(Level.WARNING, "Unable to deliver party chat to " + id, ex);
+            }
+        }
+    }
+
+    private record PartyMessage(Party party, Component line) {
+    }
+
+    private record RateWindow(long startedAt, int count) {
+    }
+}
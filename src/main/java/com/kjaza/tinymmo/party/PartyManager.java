@@ -1,17 +1,27 @@
 package com.kjaza.tinymmo.party;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Concurrent party registry. Parties are immutable snapshots replaced copy-on-write; every membership change
+ * runs inside the member's {@code playerToParty} entry, so concurrent joins and leaves of the same player are
+ * serialized while lookups from any thread stay lock-free.
+ */
 public class PartyManager {
-    private final Map<UUID, Party> parties = new HashMap<>();
-    private final Map<UUID, UUID> playerToParty = new HashMap<>();
+    private final Map<UUID, Party> parties = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> playerToParty = new ConcurrentHashMap<>();
 
     public Party createParty(UUID owner) {
         Party party = new Party(owner);
-        parties.put(owner, party);
-        playerToParty.put(owner, owner);
+        playerToParty.compute(owner, (id, previous) -> {
+            if (previous != null && !previous.equals(owner)) {
+                leaveParty(previous, owner);
+            }
+            parties.put(owner, party);
+            return owner;
+        });
         return party;
     }
 
@@ -21,32 +31,35 @@ public class PartyManager {
             return;
         }
         for (UUID member : party.members) {
-            playerToParty.remove(member);
+            playerToParty.remove(member, owner);
         }
     }
 
     public void addMember(UUID owner, UUID member) {
-        Party party = parties.get(owner);
-        if (party == null) {
-            party = createParty(owner);
+        if (!parties.containsKey(owner)) {
+            createParty(owner);
         }
-        party.members.add(member);
-        playerToParty.put(member, owner);
+        playerToParty.compute(member, (id, previous) -> {
+            if (previous != null && !previous.equals(owner)) {
+                leaveParty(previous, member);
+            }
+            parties.compute(owner, (key, party) -> (party == null ? new Party(owner) : party).withMember(member));
+            return owner;
+        });
     }
 
     public void removeMember(UUID member) {
-        UUID owner = playerToParty.remove(member);
-        if (owner == null) {
-            return;
-        }
-        Party party = parties.get(owner);
-        if (party == null) {
-            return;
-        }
-        party.members.remove(member);
-        if (party.members.isEmpty()) {
-            parties.remove(owner);
-        }
+        playerToParty.computeIfPresent(member, (id, owner) -> {
+            leaveParty(owner, member);
+            return null;
+        });
+    }
+
+    private void leaveParty(UUID owner, UUID member) {
+        parties.computeIfPresent(owner, (key, party) -> {
+            Party next = party.withoutMember(member);
+            return next.members.isEmpty() ? null : next;
+        });
     }
 
     public Party getPartyOf(UUID player) {
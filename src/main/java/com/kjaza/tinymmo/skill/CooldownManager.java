@@ -1,29 +1,123 @@
 package com.kjaza.tinymmo.skill;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.LongSupplier;
 import org.bukkit.entity.Player;
 
+/**
+ * Skill cooldowns on a monotonic tick clock. Skill ids are interned to slots and each player keeps one
+ * {@code long[]} of expiry ticks indexed by slot, so checks neither allocate nor hash more than the player id.
+ *
+ * <p>This is the single cooldown timeline: gameplay checks and the action-bar renderer both read it, and it
+ * tracks which players still have a running cooldown so the renderer never scans idle players.</p>
+ */
 public class CooldownManager {
-    private final Map<UUID, Map<String, Long>> map = new HashMap<>();
+    private static final int TICKS_PER_SECOND = 20;
+    private static final int INITIAL_SLOTS = 4;
+
+    private final LongSupplier clock;
+    private final SkillSlots slots = new SkillSlots();
+    private final Map<UUID, long[]> expiries = new HashMap<>();
+    private final Set<UUID> active = new LinkedHashSet<>();
+
+    /**
+     * Receives the running cooldown of a player that ends soonest.
+     */
+    public interface ActiveCooldownVisitor {
+        void visit(UUID player, String skillId, int remainingSeconds);
+    }
+
+    public CooldownManager(LongSupplier clock) {
+        this.clock = clock;
+    }
 
     public boolean isOnCooldown(Player p, String skillId) {
-        Long until = map.getOrDefault(p.getUniqueId(), Map.of()).get(skillId);
-        return until != null && until > System.currentTimeMillis();
+        return expiry(p.getUniqueId(), slots.find(skillId)) > clock.getAsLong();
     }
 
     public void start(Player p, String skillId, int seconds) {
-        map.computeIfAbsent(p.getUniqueId(), k -> new HashMap<>())
-           .put(skillId, System.currentTimeMillis() + seconds * 1000L);
+        int slot = slots.intern(skillId);
+        UUID id = p.getUniqueId();
+        long[] until = expiries.get(id);
+        if (until == null) {
+            until = new long[Math.max(INITIAL_SLOTS, slot + 1)];
+            expiries.put(id, until);
+        } else if (slot >= until.length) {
+            until = Arrays.copyOf(until, Math.max(slot + 1, until.length * 2));
+            expiries.put(id, until);
+        }
+        until[slot] = clock.getAsLong() + (long) seconds * TICKS_PER_SECOND;
+        active.add(id);
     }
 
     public int remaining(Player p, String skillId) {
-        Long until = map.getOrDefault(p.getUniqueId(), Map.of()).get(skillId);
-        if (until == null) {
-            return 0;
+        long diff = expiry(p.getUniqueId(), slots.find(skillId)) - clock.getAsLong();
+        return diff > 0 ? (int) ((diff + TICKS_PER_SECOND - 1) / TICKS_PER_SECOND) : 0;
+    }
+
+    /**
+     * Whether the player has a running cooldown, which the action-bar renderer is showing.
+     */
+    public boolean hasActive(UUID player) {
+        if (!active.contains(player)) {
+            return false;
+        }
+        long[] until = expiries.get(player);
+        long now = clock.getAsLong();
+        for (long expiry : until) {
+            if (expiry > now) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drops every cooldown of a player, called when they disconnect.
+     */
+    public void evict(UUID player) {
+        expiries.remove(player);
+        active.remove(player);
+    }
+
+    /**
+     * Visits every player with a running cooldown, passing the one that ends soonest. Players whose
+     * cooldowns have all expired leave the timeline and are not visited again until they start a new one.
+     */
+    public void forEachActive(ActiveCooldownVisitor visitor) {
+        long now = clock.getAsLong();
+        Iterator<UUID> iterator = active.iterator();
+        while (iterator.hasNext()) {
+            UUID player = iterator.next();
+            long[] until = expiries.get(player);
+            int soonest = -1;
+            if (until != null) {
+                for (int slot = 0; slot < until.length; slot++) {
+                    if (until[slot] > now && (soonest < 0 || until[slot] < until[soonest])) {
+                        soonest = slot;
+                    }
+                }
+            }
+            if (soonest < 0) {
+                iterator.remove();
+                continue;
+            }
+            long diff = until[soonest] - now;
+            visitor.visit(player, slots.id(soonest), (int) ((diff + TICKS_PER_SECOND - 1) / TICKS_PER_SECOND));
+        }
+    }
+
+    private long expiry(UUID player, int slot) {
+        if (slot < 0) {
+            return 0L;
         }
-        long diff = until - System.currentTimeMillis();
-        return diff > 0 ? (int) Math.ceil(diff / 1000.0) : 0;
+        long[] until = expiries.get(player);
+        return until == null || slot >= until.length ? 0L : until[slot];
     }
 }
@@ -0,0 +1,27 @@
+package com.kjaza.tinymmo.skill;
+
+import java.util.UUID;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Skill binding resolved from an item: a single-count copy of the item (used to detect a swapped item, or
+ * {@code null} for an empty hand), the registered skill or {@code null}, and the owner parsed once from the
+ * item, or {@code null} when anyone may use it.
+ */
+public record HeldSkill(ItemStack item, Skill skill, UUID owner) {
+
+    public boolean isOwnedBy(UUID player) {
+        return owner == null || owner.equals(player);
+    }
+
+    /**
+     * Whether the binding was resolved from this item: same material and same data, stack size aside. Comparing
+     * the item data does not copy the item meta, so it stays much cheaper than resolving again.
+     */
+    public boolean matches(ItemStack current) {
+        if (item == null) {
+            return current == null || current.getType().isAir();
+        }
+        return current != null && current.getType() == item.getType() && item.isSimilar(current);
+    }
+}
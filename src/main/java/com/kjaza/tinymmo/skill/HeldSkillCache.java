@@ -0,0 +1,119 @@
+package com.kjaza.tinymmo.skill;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerItemBreakEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Per-player cache of the skill bound to each hotbar slot, so an interaction resolves its skill with one array
+ * read instead of cloning the item meta and parsing its persistent data.
+ *
+ * <p>A slot is resolved when the player switches to it and invalidated by inventory changes; an entry is also
+ * ignored if the held item no longer matches the one it was resolved from, which covers items replaced without
+ * an event, including another skill item of the same material. The whole cache is dropped whenever
+ * {@link SkillManager} publishes new skills.</p>
+ */
+public class HeldSkillCache implements Listener {
+    private static final int HOTBAR_SLOTS = 9;
+
+    private final SkillManager sm;
+    private final Map<UUID, HeldSkill[]> cache = new HashMap<>();
+    private int version;
+
+    public HeldSkillCache(SkillManager sm) {
+        this.sm = sm;
+        this.version = sm.getVersion();
+    }
+
+    /**
+     * Returns the binding of the item the player holds in their main hand.
+     */
+    public HeldSkill resolve(Player player, ItemStack item) {
+        return lookup(player, player.getInventory().getHeldItemSlot(), item);
+    }
+
+    private HeldSkill lookup(Player player, int slot, ItemStack item) {
+        int current = sm.getVersion();
+        if (current != version) {
+            cache.clear();
+            version = current;
+        }
+        HeldSkill[] slots = cache.computeIfAbsent(player.getUniqueId(), id -> new HeldSkill[HOTBAR_SLOTS]);
+        HeldSkill held = slots[slot];
+        if (held == null || !held.matches(item)) {
+            held = sm.resolveHeld(item);
+            slots[slot] = held;
+        }
+        return held;
+    }
+
+    public void invalidate(UUID player) {
+        HeldSkill[] slots = cache.get(player);
+        if (slots != null) {
+            Arrays.fill(slots, null);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHeld(PlayerItemHeldEvent e) {
+        Player p = e.getPlayer();
+        lookup(p, e.getNewSlot(), p.getInventory().getItem(e.getNewSlot()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onClick(InventoryClickEvent e) {
+        invalidate(e.getWhoClicked().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDrag(InventoryDragEvent e) {
+        invalidate(e.getWhoClicked().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDrop(PlayerDropItemEvent e) {
+        invalidate(e.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(EntityPickupItemEvent e) {
+        if (e.getEntity() instanceof Player p) {
+            invalidate(p.getUniqueId());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onSwap(PlayerSwapHandItemsEvent e) {
+        invalidate(e.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onBreak(PlayerItemBreakEvent e) {
+        invalidate(e.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent e) {
+        invalidate(e.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent e) {
+        cache.remove(e.getPlayer().getUniqueId());
+    }
+}
@@ -0,0 +1,25 @@
+package com.kjaza.tinymmo.skill;
+
+import java.util.List;
+import java.util.Optional;
+import org.bukkit.entity.Player;
+
+/**
+ * Spatial lookups for area skills, registered with the Bukkit services manager by the game that owns the
+ * players' positions. Queries only see players sharing a match with {@code center}. A role is the game's own
+ * role name, matched case-insensitively; {@code null} accepts every role and an unknown name matches nobody.
+ */
+public interface ProximityService {
+
+    List<Player> withinRadius(Player center, double radius, String role);
+
+    Optional<Player> nearest(Player from, String role);
+
+    default List<Player> withinRadius(Player center, double radius) {
+        return withinRadius(center, radius, null);
+    }
+
+    default Optional<Player> nearest(Player from) {
+        return nearest(from, null);
+    }
+}
@@ -0,0 +1,73 @@
+package com.kjaza.tinymmo.skill;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.entity.Player;
+
+/**
+ * Per-player boss bar showing the enabled resource pools. {@link ResourceManager} only calls
+ * {@link #update} when a displayed value changed, and the bar is only touched when its text or fill differ.
+ */
+public class ResourceBars {
+    private static final NamedTextColor[] COLORS = {NamedTextColor.AQUA, NamedTextColor.YELLOW, NamedTextColor.GREEN};
+
+    private final Map<UUID, BossBar> bars = new HashMap<>();
+    private boolean enabled;
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void update(Player player, ResourceManager resources) {
+        if (!enabled) {
+            remove(player);
+            return;
+        }
+        TextComponent.Builder title = Component.text();
+        float progress = -1f;
+        for (ResourceType type : ResourceType.values()) {
+            int max = resources.getMax(type);
+            if (max <= 0) {
+                continue;
+            }
+            int value = resources.getResource(player, type);
+            if (progress >= 0f) {
+                title.append(Component.text("  ", NamedTextColor.DARK_GRAY));
+            } else {
+                progress = Math.max(0f, Math.min(1f, (float) value / max));
+            }
+            title.append(Component.text(type.key + " " + value + "/" + max,
+                    COLORS[type.ordinal() % COLORS.length]));
+        }
+        if (progress < 0f) {
+            remove(player);
+            return;
+        }
+        Component name = title.build();
+        BossBar bar = bars.get(player.getUniqueId());
+        if (bar == null) {
+            bar = BossBar.bossBar(name, progress, BossBar.Color.BLUE, BossBar.Overlay.PROGRESS);
+            bars.put(player.getUniqueId(), bar);
+            player.showBossBar(bar);
+            return;
+        }
+        if (!bar.name().equals(name)) {
+            bar.name(name);
+        }
+        if (bar.progress() != progress) {
+            bar.progress(progress);
+        }
+    }
+
+    public void remove(Player player) {
+        BossBar bar = bars.remove(player.getUniqueId());
+        if (bar != null) {
+            player.hideBossBar(bar);
+        }
+    }
+}
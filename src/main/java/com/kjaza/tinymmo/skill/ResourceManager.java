@@ -1,40 +1,187 @@
 package com.kjaza.tinymmo.skill;
 
-import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.UUID;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 
+/**
+ * Resource pools (mana, stamina, energy) kept as one flat {@code int[]} per player indexed by
+ * {@link ResourceType#ordinal()}. Values are stored in per-tick sub-units so regeneration rates expressed per
+ * second can be applied exactly in one batched pass over every pool.
+ *
+ * <p>Maximums and regeneration come from {@code resources.<type>.max} and {@code .regen-per-second}; a type with
+ * a maximum of zero is disabled and players only get pools automatically when at least one type is enabled.
+ * A value set through {@link #setResource} is enforced even for a disabled type and survives reloads.
+ * {@code resources.display} toggles the boss bar.</p>
+ */
 public class ResourceManager {
-    private final Map<UUID, EnumMap<ResourceType, Integer>> pools = new HashMap<>();
+    private static final int TICKS_PER_SECOND = 20;
+    private static final ResourceType[] TYPES = ResourceType.values();
 
+    private final int[] max = new int[TYPES.length];
+    private final int[] regenPerSecond = new int[TYPES.length];
+    private final Map<UUID, Pool> pools = new HashMap<>();
+    private final ResourceBars bars;
+
+    public ResourceManager(ResourceBars bars) {
+        this.bars = bars;
+    }
+
+    public void reload(ConfigurationSection config) {
+        bars.setEnabled(config == null || config.getBoolean("resources.display", true));
+        for (ResourceType type : TYPES) {
+            ConfigurationSection section = config == null ? null
+                    : config.getConfigurationSection("resources." + type.key);
+            max[type.ordinal()] = section == null ? 0 : Math.max(0, section.getInt("max", 0));
+            regenPerSecond[type.ordinal()] = section == null ? 0 : Math.max(0, section.getInt("regen-per-second", 0));
+        }
+        if (!anyEnabled()) {
+            for (Iterator<Pool> it = pools.values().iterator(); it.hasNext(); ) {
+                Pool pool = it.next();
+                if (pool.hasExplicit()) {
+                    publish(pool);
+                } else {
+                    bars.remove(pool.player);
+                    it.remove();
+                }
+            }
+            return;
+        }
+        for (Pool pool : pools.values()) {
+            for (int i = 0; i < TYPES.length; i++) {
+                if (max[i] > 0) {
+                    pool.values[i] = Math.min(pool.values[i], max[i] * TICKS_PER_SECOND);
+                }
+            }
+            publish(pool);
+        }
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            track(player);
+        }
+    }
+
+    public boolean isEnabled(ResourceType type) {
+        return max[type.ordinal()] > 0;
+    }
+
+    public int getMax(ResourceType type) {
+        return max[type.ordinal()];
+    }
+
+    /**
+     * Gives a joining player full pools of every enabled resource.
+     */
+    public void track(Player player) {
+        if (!anyEnabled() || pools.containsKey(player.getUniqueId())) {
+            return;
+        }
+        Pool pool = new Pool(player);
+        for (int i = 0; i < TYPES.length; i++) {
+            pool.values[i] = max[i] * TICKS_PER_SECOND;
+        }
+        pools.put(player.getUniqueId(), pool);
+        publish(pool);
+    }
+
+    public void forget(Player player) {
+        pools.remove(player.getUniqueId());
+        bars.remove(player);
+    }
+
+    /**
+     * Spends {@code amount} of the resource, returning whether the player could afford it; costs in a disabled
+     * resource are free unless the player's value was set through {@link #setResource}.
+     */
     public boolean tryConsume(Player player, ResourceType type, int amount) {
         if (amount <= 0) {
             return true;
         }
-        EnumMap<ResourceType, Integer> map = pools.get(player.getUniqueId());
-        if (map == null || map.isEmpty()) {
+        Pool pool = pools.get(player.getUniqueId());
+        if (pool == null || (max[type.ordinal()] == 0 && !pool.explicit[type.ordinal()])) {
             return true;
         }
-        int current = map.getOrDefault(type, 0);
-        if (current < amount) {
+        int cost = amount * TICKS_PER_SECOND;
+        int current = pool.values[type.ordinal()];
+        if (current < cost) {
             return false;
         }
-        map.put(type, current - amount);
+        pool.values[type.ordinal()] = current - cost;
+        publish(pool);
         return true;
     }
 
     public void setResource(Player player, ResourceType type, int amount) {
-        pools.computeIfAbsent(player.getUniqueId(), k -> new EnumMap<>(ResourceType.class))
-                .put(type, amount);
+        Pool pool = pools.computeIfAbsent(player.getUniqueId(), id -> new Pool(player));
+        int cap = max[type.ordinal()];
+        pool.values[type.ordinal()] = (cap > 0 ? Math.min(cap, Math.max(0, amount)) : amount) * TICKS_PER_SECOND;
+        pool.explicit[type.ordinal()] = true;
+        publish(pool);
     }
 
     public int getResource(Player player, ResourceType type) {
-        EnumMap<ResourceType, Integer> map = pools.get(player.getUniqueId());
-        if (map == null) {
+        Pool pool = pools.get(player.getUniqueId());
+        if (pool == null) {
             return 0;
         }
-        return map.getOrDefault(type, 0);
+        return pool.values[type.ordinal()] / TICKS_PER_SECOND;
+    }
+
+    /**
+     * Regenerates every pool by {@code elapsedTicks} worth of regeneration in one pass; displays are only
+     * refreshed for pools whose whole-unit value changed.
+     */
+    public void tick(long elapsedTicks) {
+        for (Pool pool : pools.values()) {
+            boolean changed = false;
+            for (int i = 0; i < TYPES.length; i++) {
+                int cap = max[i] * TICKS_PER_SECOND;
+                int current = pool.values[i];
+                if (regenPerSecond[i] == 0 || current >= cap) {
+                    continue;
+                }
+                int next = (int) Math.min(cap, current + regenPerSecond[i] * elapsedTicks);
+                pool.values[i] = next;
+                changed |= next / TICKS_PER_SECOND != current / TICKS_PER_SECOND;
+            }
+            if (changed) {
+                publish(pool);
+            }
+        }
+    }
+
+    private void publish(Pool pool) {
+        bars.update(pool.player, this);
+    }
+
+    private boolean anyEnabled() {
+        for (int value : max) {
+            if (value > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Pool {
+        private final Player player;
+        private final int[] values = new int[TYPES.length];
+        private final boolean[] explicit = new boolean[TYPES.length];
+
+        private Pool(Player player) {
+            this.player = player;
+        }
+
+        private boolean hasExplicit() {
+            for (boolean value : explicit) {
+                if (value) {
+                    return true;
+                }
+            }
+            return false;
+        }
     }
 }
@@ -1,12 +1,23 @@
 package com.kjaza.tinymmo.skill;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 public enum ResourceType {
     MANA("mana"),
     STAMINA("stamina"),
     ENERGY("energy");
 
+    private static final Map<String, ResourceType> BY_KEY = new HashMap<>();
+
+    static {
+        for (ResourceType type : values()) {
+            BY_KEY.put(type.key.toLowerCase(Locale.ROOT), type);
+            BY_KEY.put(type.name().toLowerCase(Locale.ROOT), type);
+        }
+    }
+
     public final String key;
 
     ResourceType(String key) {
@@ -17,9 +28,6 @@ public enum ResourceType {
         if (key == null || key.isEmpty()) {
             return MANA;
         }
-        return Arrays.stream(values())
-                .filter(type -> type.key.equalsIgnoreCase(key) || type.name().equalsIgnoreCase(key))
-                .findFirst()
-                .orElse(MANA);
+        return BY_KEY.getOrDefault(key.toLowerCase(Locale.ROOT), MANA);
     }
 }
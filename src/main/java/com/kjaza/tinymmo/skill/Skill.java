@@ -6,6 +6,10 @@ import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 
+/**
+ * Immutable skill definition. Tuning compiled from the configuration produces a new snapshot rather than
+ * mutating a registered skill.
+ */
 public class Skill {
     public interface SkillAction extends BiConsumer<Player, Plugin> {
         @Override
@@ -49,6 +53,10 @@ public class Skill {
         return cost;
     }
 
+    public Skill tuned(ResourceType resource, int cost, int cooldownSec) {
+        return new Skill(id, mat, cooldownSec, resource, cost, action);
+    }
+
     public void execute(Player player, Plugin plugin) {
         if (action != null) {
             action.accept(player, plugin);
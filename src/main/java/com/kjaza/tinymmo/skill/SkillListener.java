@@ -1,6 +1,8 @@
 package com.kjaza.tinymmo.skill;
 
-import java.util.Optional;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.ChatColor;
@@ -9,23 +11,30 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.EquipmentSlot;
-import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
 
 public class SkillListener implements Listener {
     private static final LegacyComponentSerializer LEGACY_SERIALIZER =
             LegacyComponentSerializer.legacySection();
+    private static final int CACHED_COOLDOWN_SECONDS = 600;
 
-    private final SkillManager sm;
+    // Action bar feedback is built once per distinct value instead of on every click.
+    private final Component[] cooldownMessages = new Component[CACHED_COOLDOWN_SECONDS + 1];
+    private final Map<ResourceType, Map<Integer, Component>> shortageMessages =
+            new EnumMap<>(ResourceType.class);
+
+    private final HeldSkillCache heldSkills;
     private final CooldownManager cm;
     private final ResourceManager rm;
     private final VisualCooldowns vcd;
     private final Plugin plugin;
 
-    public SkillListener(SkillManager sm, CooldownManager cm, ResourceManager rm,
+    public SkillListener(HeldSkillCache heldSkills, CooldownManager cm, ResourceManager rm,
             VisualCooldowns vcd, Plugin plugin) {
-        this.sm = sm;
+        this.heldSkills = heldSkills;
         this.cm = cm;
         this.rm = rm;
         this.vcd = vcd;
@@ -37,35 +46,29 @@ public class SkillListener implements Listener {
         if (e.getHand() == EquipmentSlot.OFF_HAND) {
             return;
         }
-        ItemStack item = e.getItem();
-        Optional<Skill> skillOpt = sm.resolveSkill(item);
-        if (skillOpt.isEmpty()) {
+        HeldSkill held = heldSkills.resolve(e.getPlayer(), e.getItem());
+        Skill skill = held.skill();
+        if (skill == null) {
             return;
         }
-        Skill skill = skillOpt.get();
 
-        if (!sm.isOwner(e.getPlayer(), item)) {
+        if (!held.isOwnedBy(e.getPlayer().getUniqueId())) {
             e.setCancelled(true);
             return;
         }
 
-        if (cm.isOnCooldown(e.getPlayer(), skill.id())) {
-            int rem = cm.remaining(e.getPlayer(), skill.id());
-            Component message = LEGACY_SERIALIZER.deserialize(ChatColor.RED + "Cooldown: " + rem + "s");
-            e.getPlayer().sendActionBar(message);
+        int rem = cm.remaining(e.getPlayer(), skill.id());
+        if (rem > 0) {
+            e.getPlayer().sendActionBar(cooldownMessage(rem));
             e.setCancelled(true);
             return;
         }
 
-        String base = "skills.costs." + skill.id() + ".";
-        ResourceType rt = ResourceType.from(
-                plugin.getConfig().getString(base + "resource", skill.resource().key));
-        int cost = plugin.getConfig().getInt(base + "amount", skill.cost());
+        ResourceType rt = skill.resource();
+        int cost = skill.cost();
 
         if (!rm.tryConsume(e.getPlayer(), rt, cost)) {
-            Component message = LEGACY_SERIALIZER.deserialize(ChatColor.RED + "Non hai abbastanza "
-                    + rt.key + " (" + cost + " richiesti).");
-            e.getPlayer().sendActionBar(message);
+            e.getPlayer().sendActionBar(shortageMessage(rt, cost));
             e.setCancelled(true);
             return;
         }
@@ -79,4 +82,34 @@ public class SkillListener implements Listener {
                 Sound.UI_TOAST_CHALLENGE_COMPLETE, 1f, 1.2f);
         e.setCancelled(true);
     }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent e) {
+        rm.track(e.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent e) {
+        cm.evict(e.getPlayer().getUniqueId());
+        vcd.evict(e.getPlayer().getUniqueId());
+        rm.forget(e.getPlayer());
+    }
+
+    private Component cooldownMessage(int rem) {
+        if (rem < 0 || rem > CACHED_COOLDOWN_SECONDS) {
+            return LEGACY_SERIALIZER.deserialize(ChatColor.RED + "Cooldown: " + rem + "s");
+        }
+        Component message = cooldownMessages[rem];
+        if (message == null) {
+            message = LEGACY_SERIALIZER.deserialize(ChatColor.RED + "Cooldown: " + rem + "s");
+            cooldownMessages[rem] = message;
+        }
+        return message;
+    }
+
+    private Component shortageMessage(ResourceType rt, int cost) {
+        return shortageMessages.computeIfAbsent(rt, type -> new HashMap<>())
+                .computeIfAbsent(cost, amount -> LEGACY_SERIALIZER.deserialize(ChatColor.RED
+                        + "Non hai abbastanza " + rt.key + " (" + amount + " richiesti)."));
+    }
 }
@@ -3,7 +3,9 @@ package com.kjaza.tinymmo.skill;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import org.bukkit.NamespacedKey;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
@@ -12,8 +14,13 @@ import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.plugin.Plugin;
 
 public class SkillManager {
+    private static final UUID NO_VALID_OWNER = new UUID(0L, 0L);
+
     private final Plugin plugin;
-    private final Map<String, Skill> skills = new HashMap<>();
+    private final Map<String, Skill> registered = new HashMap<>();
+    private ConfigurationSection tuning;
+    private volatile Map<String, Skill> skills = Map.of();
+    private volatile int version;
     private final NamespacedKey skillKey;
     private final NamespacedKey ownerKey;
 
@@ -24,9 +31,47 @@ public class SkillManager {
     }
 
     public void register(Skill skill) {
-        skills.put(skill.id(), skill);
+        registered.put(skill.id(), skill);
+        publish();
+    }
+
+    /**
+     * Recompiles every registered skill against {@code skills.costs.<id>.resource}, {@code .amount} and
+     * {@code .cooldown} and publishes the new snapshots at once; called on load and on every config reload.
+     */
+    public void reload(ConfigurationSection config) {
+        tuning = config == null ? null : config.getConfigurationSection("skills.costs");
+        publish();
     }
 
+    private void publish() {
+        Map<String, Skill> compiled = new HashMap<>();
+        for (Skill skill : registered.values()) {
+            compiled.put(skill.id(), compile(skill));
+        }
+        skills = Map.copyOf(compiled);
+        version++;
+    }
+
+    /**
+     * Changes every time a new skill snapshot is published, by {@link #register} or {@link #reload}, so caches of
+     * resolved skills can tell they are stale.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    private Skill compile(Skill skill) {
+        ConfigurationSection section = tuning == null ? null : tuning.getConfigurationSection(skill.id());
+        if (section == null) {
+            return skill;
+        }
+        return skill.tuned(ResourceType.from(section.getString("resource", skill.resource().key)),
+                section.getInt("amount", skill.cost()),
+                section.getInt("cooldown", skill.cooldownSec()));
+    }
+
+
     public Optional<Skill> resolveSkill(ItemStack stack) {
         if (stack == null) {
             return Optional.empty();
@@ -63,6 +108,35 @@ public class SkillManager {
         return owner.equalsIgnoreCase(player.getUniqueId().toString());
     }
 
+    /**
+     * Reads the skill id and owner of an item with a single meta access, for {@link HeldSkillCache}.
+     */
+    public HeldSkill resolveHeld(ItemStack stack) {
+        if (stack == null || stack.getType().isAir()) {
+            return new HeldSkill(null, null, null);
+        }
+        ItemStack copy = stack.asOne();
+        ItemMeta meta = stack.getItemMeta();
+        if (meta == null) {
+            return new HeldSkill(copy, null, null);
+        }
+        PersistentDataContainer container = meta.getPersistentDataContainer();
+        String id = container.get(skillKey, PersistentDataType.STRING);
+        Skill skill = id == null ? null : skills.get(id);
+        if (skill == null) {
+            return new HeldSkill(copy, null, null);
+        }
+        String owner = container.get(ownerKey, PersistentDataType.STRING);
+        if (owner == null) {
+            return new HeldSkill(copy, skill, null);
+        }
+        try {
+            return new HeldSkill(copy, skill, UUID.fromString(owner));
+        } catch (IllegalArgumentException ex) {
+            return new HeldSkill(copy, skill, NO_VALID_OWNER);
+        }
+    }
+
     public NamespacedKey getSkillKey() {
         return skillKey;
     }
@@ -0,0 +1,41 @@
+package com.kjaza.tinymmo.skill;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interns skill ids to small, dense ints used to index per-player cooldown arrays.
+ */
+public class SkillSlots {
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final List<String> ids = new ArrayList<>();
+
+    public int intern(String skillId) {
+        Integer slot = slots.get(skillId);
+        if (slot != null) {
+            return slot;
+        }
+        int next = ids.size();
+        ids.add(skillId);
+        slots.put(skillId, next);
+        return next;
+    }
+
+    /**
+     * Returns the slot of an already interned id, or {@code -1} if the skill has never been used.
+     */
+    public int find(String skillId) {
+        Integer slot = slots.get(skillId);
+        return slot == null ? -1 : slot;
+    }
+
+    public String id(int slot) {
+        return ids.get(slot);
+    }
+
+    public int size() {
+        return ids.size();
+    }
+}
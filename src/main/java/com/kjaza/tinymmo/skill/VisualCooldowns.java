@@ -10,45 +10,51 @@ import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 
+/**
+ * Renders running cooldowns from the {@link CooldownManager} timeline. Only players with an active cooldown are
+ * visited, and an action bar is sent only when the displayed skill or second changes.
+ */
 public class VisualCooldowns {
     private static final LegacyComponentSerializer LEGACY_SERIALIZER =
             LegacyComponentSerializer.legacySection();
 
     private final Plugin plugin;
-    private final Map<UUID, Map<String, Long>> track = new HashMap<>();
+    private final CooldownManager cooldowns;
+    private final Map<UUID, Shown> shown = new HashMap<>();
 
-    public VisualCooldowns(Plugin plugin) {
+    public VisualCooldowns(Plugin plugin, CooldownManager cooldowns) {
         this.plugin = plugin;
+        this.cooldowns = cooldowns;
     }
 
     public void start(Player p, Skill skill, int seconds) {
         p.setCooldown(skill.mat(), seconds * 20);
-        track.computeIfAbsent(p.getUniqueId(), k -> new HashMap<>())
-             .put(skill.id(), System.currentTimeMillis() + seconds * 1000L);
+        shown.remove(p.getUniqueId());
+    }
+
+    public void evict(UUID player) {
+        shown.remove(player);
     }
 
     public void tickActionbar() {
-        long now = System.currentTimeMillis();
-        for (Player p : Bukkit.getOnlinePlayers()) {
-            Map<String, Long> m = track.get(p.getUniqueId());
-            if (m == null || m.isEmpty()) {
-                continue;
-            }
-            String label = null;
-            int rem = Integer.MAX_VALUE;
-            for (Map.Entry<String, Long> entry : m.entrySet()) {
-                int r = (int) Math.ceil((entry.getValue() - now) / 1000.0);
-                if (r > 0 && r < rem) {
-                    rem = r;
-                    label = entry.getKey();
-                }
-            }
-            if (label != null) {
-                Component message = LEGACY_SERIALIZER.deserialize(ChatColor.GRAY + "Cooldown: "
-                        + ChatColor.WHITE + label + ChatColor.DARK_GRAY + " " + rem + "s");
-                p.sendActionBar(message);
-            }
-            m.entrySet().removeIf(en -> en.getValue() <= now);
+        cooldowns.forEachActive(this::render);
+    }
+
+    private void render(UUID id, String label, int rem) {
+        Shown last = shown.get(id);
+        if (last != null && last.rem() == rem && last.label().equals(label)) {
+            return;
         }
+        Player p = Bukkit.getPlayer(id);
+        if (p == null) {
+            return;
+        }
+        shown.put(id, new Shown(label, rem));
+        Component message = LEGACY_SERIALIZER.deserialize(ChatColor.GRAY + "Cooldown: "
+                + ChatColor.WHITE + label + ChatColor.DARK_GRAY + " " + rem + "s");
+        p.sendActionBar(message);
+    }
+
+    private record Shown(String label, int rem) {
     }
 }